@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.common.domain.contract;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.History;
+import com.hedera.mirror.common.domain.Upsertable;
+import com.hedera.mirror.common.util.DomainUtils;
+import jakarta.persistence.Column;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.MappedSuperclass;
+import java.io.Serial;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@IdClass(AbstractContractState.Id.class)
+@MappedSuperclass
+@NoArgsConstructor
+@SuperBuilder(toBuilder = true)
+@Upsertable(history = true)
+public abstract class AbstractContractState implements History {
+
+    private static final int SLOT_BYTE_LENGTH = 32;
+
+    @jakarta.persistence.Id
+    private long contractId;
+
+    @Column(updatable = false)
+    private long createdTimestamp;
+
+    private long modifiedTimestamp;
+
+    @jakarta.persistence.Id
+    @ToString.Exclude
+    private byte[] slot;
+
+    private Range<Long> timestampRange;
+
+    @ToString.Exclude
+    private byte[] value;
+
+    @JsonIgnore
+    public Id getId() {
+        Id id = new Id();
+        id.setContractId(contractId);
+        id.setSlot(slot);
+        return id;
+    }
+
+    public void setSlot(byte[] slot) {
+        this.slot = DomainUtils.leftPadBytes(slot, SLOT_BYTE_LENGTH);
+    }
+
+    @AllArgsConstructor
+    @Data
+    @NoArgsConstructor
+    public static class Id implements Serializable {
+
+        @Serial
+        private static final long serialVersionUID = 6192377810161178246L;
+
+        private long contractId;
+        private byte[] slot;
+    }
+}
@@ -2,64 +2,14 @@
 
 package com.hedera.mirror.common.domain.contract;
 
-import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.hedera.mirror.common.domain.Upsertable;
-import com.hedera.mirror.common.util.DomainUtils;
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
-import jakarta.persistence.IdClass;
-import java.io.Serializable;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.ToString;
+import lombok.experimental.SuperBuilder;
 
 @Data
-@Entity
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Builder(toBuilder = true)
-@IdClass(ContractState.Id.class)
+@jakarta.persistence.Entity
 @NoArgsConstructor
-@Upsertable
-public class ContractState {
-
-    private static final int SLOT_BYTE_LENGTH = 32;
-
-    @jakarta.persistence.Id
-    private long contractId;
-
-    @Column(updatable = false)
-    private long createdTimestamp;
-
-    private long modifiedTimestamp;
-
-    @jakarta.persistence.Id
-    @ToString.Exclude
-    private byte[] slot;
-
-    @ToString.Exclude
-    private byte[] value;
-
-    @JsonIgnore
-    public ContractState.Id getId() {
-        ContractState.Id id = new ContractState.Id();
-        id.setContractId(contractId);
-        id.setSlot(slot);
-        return id;
-    }
-
-    public void setSlot(byte[] slot) {
-        this.slot = DomainUtils.leftPadBytes(slot, SLOT_BYTE_LENGTH);
-    }
-
-    @Data
-    @AllArgsConstructor
-    @NoArgsConstructor
-    public static class Id implements Serializable {
-        private static final long serialVersionUID = 6192377810161178246L;
-        private long contractId;
-        private byte[] slot;
-    }
+@SuperBuilder(toBuilder = true)
+public class ContractState extends AbstractContractState {
+    // Only the parent class should contain fields so that they're shared with both the history and non-history tables.
 }
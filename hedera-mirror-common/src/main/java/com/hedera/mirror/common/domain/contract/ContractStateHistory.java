@@ -0,0 +1,15 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.common.domain.contract;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+@Data
+@jakarta.persistence.Entity
+@NoArgsConstructor
+@SuperBuilder(toBuilder = true)
+public class ContractStateHistory extends AbstractContractState {
+    // Only the parent class should contain fields so that they're shared with both the history and non-history tables.
+}
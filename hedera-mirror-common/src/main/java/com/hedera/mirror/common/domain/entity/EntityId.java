@@ -3,8 +3,6 @@
 package com.hedera.mirror.common.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonValue;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Range;
 import com.hedera.mirror.common.exception.InvalidEntityException;
@@ -47,10 +45,10 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
     private static final long REALM_MASK = (1L << REALM_BITS) - 1;
     private static final long SHARD_MASK = (1L << SHARD_BITS) - 1;
 
-    private static final String CACHE_DEFAULT = "expireAfterAccess=60m,maximumSize=500000,recordStats";
-    private static final String CACHE_PROPERTY = "HEDERA_MIRROR_COMMON_CACHE_ENTITYID";
-    private static final String CACHE_SPEC = System.getProperty(CACHE_PROPERTY, CACHE_DEFAULT);
-    private static final Cache<Long, EntityId> CACHE = Caffeine.from(CACHE_SPEC).build();
+    // The number of slots in the direct-mapped cache, rounded up to a power of two. Zero disables the cache
+    private static final String CACHE_PROPERTY = "HEDERA_MIRROR_COMMON_CACHE_ENTITYID_SIZE";
+    static final int CACHE_SIZE = cacheSize(Integer.getInteger(CACHE_PROPERTY, 1 << 18));
+    private static final EntityId[] CACHE = new EntityId[CACHE_SIZE];
 
     private static final Comparator<EntityId> COMPARATOR =
             Comparator.nullsFirst(Comparator.comparingLong(EntityId::getId));
@@ -149,7 +147,28 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
             return EMPTY;
         }
 
-        return CACHE.get(id, k -> new EntityId(id));
+        if (CACHE_SIZE == 0) {
+            return new EntityId(id);
+        }
+
+        // Each ID maps to a single slot that's replaced on a miss. Concurrent misses only create equal instances, and
+        // the final field makes an instance safe to read from the slot without synchronization
+        int index = Long.hashCode(id) & (CACHE_SIZE - 1);
+        var entityId = CACHE[index];
+        if (entityId == null || entityId.id != id) {
+            entityId = new EntityId(id);
+            CACHE[index] = entityId;
+        }
+
+        return entityId;
+    }
+
+    private static int cacheSize(int size) {
+        if (size <= 0) {
+            return 0;
+        }
+
+        return 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(Math.min(size, 1 << 30) - 1));
     }
 
     public static boolean isEmpty(EntityId entityId) {
@@ -196,6 +196,20 @@ public class RecordItem implements StreamItem {
         return contractTransactions.values();
     }
 
+    /**
+     * Clears the state collected while the record item was parsed so that it can be parsed again. The sidecar records
+     * are kept since they are part of the record item itself.
+     */
+    public void reset() {
+        contractTransactionPredicate = null;
+        contractTransactions = null;
+        entityTransactionBuilder = null;
+        entityTransactionPredicate = null;
+        entityTransactions = null;
+        ethereumTransaction = null;
+        logIndex.set(0);
+    }
+
     public static class RecordItemBuilder {
 
         private TransactionRecord.Builder transactionRecordBuilder;
@@ -205,7 +219,10 @@ public class RecordItem implements StreamItem {
                 transactionRecord = transactionRecordBuilder.build();
             }
 
-            parseTransaction();
+            if (transactionBody == null || signatureMap == null) {
+                parseTransaction();
+            }
+
             this.consensusTimestamp = DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
             this.parent = parseParent();
             this.payerAccountId = EntityId.of(transactionBody.getTransactionID().getAccountID());
@@ -267,9 +284,14 @@ public class RecordItem implements StreamItem {
          * 'hasBodyBytes()' or 'hasSignedTransactionBytes()` methods. If unset, they return empty ByteString which
          * always parses successfully to an empty TransactionBody. However, every transaction should have a valid
          * (non-empty) TransactionBody.
+         * <p>
+         * It's called by {@link #build()} if not called before, so callers building record items in order can parse
+         * the transactions of later items concurrently beforehand.
+         *
+         * @return this builder
          */
         @SuppressWarnings("deprecation")
-        private void parseTransaction() {
+        public RecordItemBuilder parseTransaction() {
             try {
                 if (!transaction.getSignedTransactionBytes().equals(ByteString.EMPTY)) {
                     var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
@@ -286,6 +308,8 @@ public class RecordItem implements StreamItem {
                 if (transactionBody == null || signatureMap == null) {
                     throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE);
                 }
+
+                return this;
             } catch (InvalidProtocolBufferException e) {
                 throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE, e);
             }
@@ -34,6 +34,10 @@ public class CommonTestConfiguration {
 
     public static final String POSTGRESQL = "postgresql";
 
+    // Only modules using two-phase commit need prepared transactions to be enabled
+    @Value("${hedera.mirror.test.postgresql.maxPreparedTransactions:0}")
+    private int maxPreparedTransactions;
+
     @Value("#{environment.matchesProfiles('v2')}")
     private boolean v2;
 
@@ -93,12 +97,18 @@ public class CommonTestConfiguration {
         var logConsumer = new FilteringConsumer(
                 new Slf4jLogConsumer(logger, true),
                 o -> !StringUtils.contains(o.getUtf8StringWithoutLineEnding(), excluded));
-        return new PostgreSQLContainer<>(dockerImageName)
+        var container = new PostgreSQLContainer<>(dockerImageName)
                 .withClasspathResourceMapping("init.sql", "/docker-entrypoint-initdb.d/init.sql", BindMode.READ_ONLY)
                 .withDatabaseName("mirror_node")
                 .withLogConsumer(logConsumer)
                 .withPassword("mirror_node_pass")
                 .withUsername("mirror_node");
+
+        if (maxPreparedTransactions > 0) {
+            container.withCommand("postgres", "-c", "max_prepared_transactions=" + maxPreparedTransactions);
+        }
+
+        return container;
     }
 
     // Avoid using @ServiceConnection and use our own custom connection details so we can pass mirror_importer as user
@@ -23,6 +23,7 @@ import com.hedera.mirror.common.domain.contract.ContractAction;
 import com.hedera.mirror.common.domain.contract.ContractLog;
 import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.common.domain.contract.ContractStateHistory;
 import com.hedera.mirror.common.domain.contract.ContractStateChange;
 import com.hedera.mirror.common.domain.contract.ContractTransaction;
 import com.hedera.mirror.common.domain.contract.ContractTransactionHash;
@@ -309,13 +310,27 @@ public class DomainBuilder {
         return new DomainWrapperImpl<>(builder, builder::build);
     }
 
-    public DomainWrapper<ContractState, ContractState.ContractStateBuilder> contractState() {
+    public DomainWrapper<ContractState, ContractState.ContractStateBuilder<?, ?>> contractState() {
         var createdTimestamp = timestamp();
         var builder = ContractState.builder()
                 .contractId(id())
                 .createdTimestamp(createdTimestamp)
                 .modifiedTimestamp(createdTimestamp)
                 .slot(bytes(32))
+                .timestampRange(Range.atLeast(createdTimestamp))
+                .value(bytes(32));
+        return new DomainWrapperImpl<>(builder, builder::build);
+    }
+
+    public DomainWrapper<ContractStateHistory, ContractStateHistory.ContractStateHistoryBuilder<?, ?>>
+            contractStateHistory() {
+        var createdTimestamp = timestamp();
+        var builder = ContractStateHistory.builder()
+                .contractId(id())
+                .createdTimestamp(createdTimestamp)
+                .modifiedTimestamp(createdTimestamp)
+                .slot(bytes(32))
+                .timestampRange(Range.closedOpen(createdTimestamp, createdTimestamp + 10))
                 .value(bytes(32));
         return new DomainWrapperImpl<>(builder, builder::build);
     }
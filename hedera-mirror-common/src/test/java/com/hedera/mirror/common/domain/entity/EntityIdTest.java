@@ -2,6 +2,7 @@
 
 package com.hedera.mirror.common.domain.entity;
 
+import static com.hedera.mirror.common.domain.entity.EntityId.CACHE_SIZE;
 import static com.hedera.mirror.common.domain.entity.EntityId.NUM_BITS;
 import static com.hedera.mirror.common.domain.entity.EntityId.REALM_BITS;
 import static com.hedera.mirror.common.domain.entity.EntityId.SHARD_BITS;
@@ -78,4 +79,21 @@ class EntityIdTest {
         assertThat(EntityId.isUnset(UNSET)).isTrue();
         assertThat(EntityId.isUnset(EntityId.of(UNSET.getId()))).isFalse();
     }
+
+    @Test
+    void ofCached() {
+        var entityId = EntityId.of(0, 0, 1001);
+        assertThat(EntityId.of(0, 0, 1001)).isSameAs(entityId);
+        assertThat(EntityId.of(entityId.getId())).isSameAs(entityId);
+    }
+
+    @Test
+    void ofCacheCollision() {
+        long id = 1002L;
+        long collision = id + CACHE_SIZE;
+        assertThat(EntityId.of(id).getId()).isEqualTo(id);
+        assertThat(EntityId.of(collision).getId()).isEqualTo(collision);
+        assertThat(EntityId.of(id).getId()).isEqualTo(id);
+        assertThat(EntityId.of(collision)).isSameAs(EntityId.of(collision));
+    }
 }
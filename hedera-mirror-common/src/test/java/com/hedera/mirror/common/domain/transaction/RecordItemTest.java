@@ -12,6 +12,7 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityTransaction;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.exception.ProtobufException;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -29,6 +30,7 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
@@ -249,6 +251,20 @@ class RecordItemTest {
         assertRecordItem(transaction, recordItem);
     }
 
+    @Test
+    void testWithTransactionParsedBeforeBuild() {
+        Transaction transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(SIGNED_TRANSACTION.toByteString())
+                .build();
+        RecordItem recordItem = RecordItem.builder()
+                .hapiVersion(DEFAULT_HAPI_VERSION)
+                .transactionRecord(TRANSACTION_RECORD)
+                .transaction(transaction)
+                .parseTransaction()
+                .build();
+        assertRecordItem(transaction, recordItem);
+    }
+
     @Test
     void testWithParentItems() {
         var transactionRecord = TransactionRecord.newBuilder()
@@ -670,6 +686,38 @@ class RecordItemTest {
         assertThat(recordItem.populateContractTransactions()).isEmpty();
     }
 
+    @Test
+    void reset() {
+        var payerAccountId = EntityId.of(1000L);
+        var sidecarRecords = List.of(TransactionSidecarRecord.getDefaultInstance());
+        var transactionRecord = TransactionRecord.newBuilder()
+                .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(1L))
+                .setReceipt(TransactionReceipt.newBuilder().setStatus(ResponseCodeEnum.SUCCESS))
+                .build();
+        var recordItem = RecordItem.builder()
+                .contractTransactionPredicate(entityId -> true)
+                .entityTransactionPredicate(entityId -> true)
+                .ethereumTransaction(new EthereumTransaction())
+                .payerAccountId(payerAccountId)
+                .sidecarRecords(sidecarRecords)
+                .transaction(DEFAULT_TRANSACTION)
+                .transactionRecord(transactionRecord)
+                .build();
+        recordItem.addContractTransaction(payerAccountId);
+        recordItem.addEntityId(payerAccountId);
+        recordItem.getAndIncrementLogIndex();
+
+        recordItem.reset();
+
+        recordItem.addContractTransaction(payerAccountId);
+        recordItem.addEntityId(payerAccountId);
+        assertThat(recordItem.getAndIncrementLogIndex()).isZero();
+        assertThat(recordItem.getEthereumTransaction()).isNull();
+        assertThat(recordItem.getEntityTransactions()).isEmpty();
+        assertThat(recordItem.populateContractTransactions()).isEmpty();
+        assertThat(recordItem.getSidecarRecords()).isSameAs(sidecarRecords);
+    }
+
     @SuppressWarnings("java:S5778")
     private void testException(byte[] transactionBytes, byte[] recordBytes, String expectedMessage) {
         assertThatThrownBy(() -> RecordItem.builder()
@@ -11,6 +11,7 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.DbProperties;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -19,7 +20,9 @@ import io.vertx.pgclient.pubsub.PgChannel;
 import io.vertx.pgclient.pubsub.PgSubscriber;
 import jakarta.inject.Named;
 import java.time.Duration;
-import java.util.Objects;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
@@ -34,12 +37,14 @@ public class NotifyingTopicListener extends SharedTopicListener {
     private final Mono<PgChannel> channel;
     private final JdbcConnectionDetails connectionDetails;
     private final DbProperties dbProperties;
-    private final Flux<TopicMessage> topicMessages;
+    private final AtomicBoolean listening = new AtomicBoolean();
+    private final TopicMessageDispatcher topicMessageDispatcher;
 
     public NotifyingTopicListener(
             JdbcConnectionDetails connectionDetails,
             DbProperties dbProperties,
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry) {
         super(listenerProperties);
         this.connectionDetails = connectionDetails;
@@ -55,26 +60,31 @@ public class NotifyingTopicListener extends SharedTopicListener {
 
         channel = Mono.defer(this::createChannel).cache();
         Duration interval = listenerProperties.getInterval();
-        topicMessages = Flux.defer(this::listen)
-                .map(this::toTopicMessage)
-                .filter(Objects::nonNull)
+        var topicMessages = Flux.defer(this::listen)
+                .flatMapIterable(this::toTopicMessages)
                 .name(METRIC)
                 .tag(METRIC_TAG, "notify")
                 .tap(Micrometer.observation(observationRegistry))
                 .doOnError(t -> log.error("Error listening for messages", t))
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        topicMessageDispatcher = new TopicMessageDispatcher(topicMessages, meterRegistry, "notify");
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        return topicMessageDispatcher.listen(filter);
     }
 
     private Flux<String> listen() {
         Sinks.Many<String> sink = Sinks.many().unicast().onBackpressureBuffer();
         return channel.doOnNext(c -> c.handler(sink::tryEmitNext))
-                .doOnNext(c -> log.info("Listening for messages"))
+                .doOnNext(c -> {
+                    log.info("Listening for messages");
+                    if (listening.getAndSet(true)) {
+                        reconnected();
+                    }
+                })
                 .flatMapMany(c -> sink.asFlux())
                 .doFinally(s -> unListen());
     }
@@ -98,6 +108,7 @@ public class NotifyingTopicListener extends SharedTopicListener {
 
         PgSubscriber subscriber = PgSubscriber.subscriber(vertx, connectOptions).reconnectPolicy(retries -> {
             log.warn("Attempting reconnect");
+            reconnected();
             return interval.toMillis() * Math.min(retries, 4);
         });
 
@@ -106,13 +117,18 @@ public class NotifyingTopicListener extends SharedTopicListener {
                 .thenReturn(subscriber.channel("topic_message"));
     }
 
-    private TopicMessage toTopicMessage(String payload) {
+    private List<TopicMessage> toTopicMessages(String payload) {
         try {
-            return objectMapper.readValue(payload, TopicMessage.class);
+            // The importer coalesces the messages of a topic into a JSON array when it notifies asynchronously
+            if (payload.startsWith("[")) {
+                return Arrays.asList(objectMapper.readValue(payload, TopicMessage[].class));
+            }
+
+            return List.of(objectMapper.readValue(payload, TopicMessage.class));
         } catch (Exception ex) {
             // Discard invalid messages. No need to propagate error and cause a reconnect.
             log.error("Error parsing message {}", payload, ex);
-            return null;
+            return List.of();
         }
     }
 }
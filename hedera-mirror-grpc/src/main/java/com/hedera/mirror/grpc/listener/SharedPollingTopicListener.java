@@ -7,10 +7,12 @@ import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import lombok.Data;
 import org.reactivestreams.Subscription;
@@ -25,10 +27,11 @@ import reactor.util.retry.Retry;
 public class SharedPollingTopicListener extends SharedTopicListener {
 
     private final TopicMessageRepository topicMessageRepository;
-    private final Flux<TopicMessage> topicMessages;
+    private final TopicMessageDispatcher topicMessageDispatcher;
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
             TopicMessageRepository topicMessageRepository) {
         super(listenerProperties);
@@ -38,7 +41,7 @@ public class SharedPollingTopicListener extends SharedTopicListener {
         Duration interval = listenerProperties.getInterval();
         PollingContext context = new PollingContext();
 
-        topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
+        var topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
                 .repeatWhen(Repeat.times(Long.MAX_VALUE).fixedBackoff(interval).withBackoffScheduler(scheduler))
                 .name(METRIC)
                 .tag(METRIC_TAG, "shared poll")
@@ -48,11 +51,12 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnSubscribe(context::onStart)
                 .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
                 .share();
+        topicMessageDispatcher = new TopicMessageDispatcher(topicMessages, meterRegistry, "shared poll");
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        return topicMessageDispatcher.listen(filter);
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -74,6 +78,7 @@ public class SharedPollingTopicListener extends SharedTopicListener {
         private final AtomicLong count = new AtomicLong(0L);
         private final Stopwatch stopwatch = Stopwatch.createUnstarted();
         private final AtomicLong lastConsensusTimestamp = new AtomicLong();
+        private final AtomicBoolean started = new AtomicBoolean();
 
         void onNext(TopicMessage topicMessage) {
             count.incrementAndGet();
@@ -101,6 +106,11 @@ public class SharedPollingTopicListener extends SharedTopicListener {
             log.info(
                     "Starting to poll every {}ms",
                     listenerProperties.getInterval().toMillis());
+
+            // Polling restarts from the current time, skipping the messages since the last poll
+            if (started.getAndSet(true)) {
+                reconnected();
+            }
         }
     }
 }
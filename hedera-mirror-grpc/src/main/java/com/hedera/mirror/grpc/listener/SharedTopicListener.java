@@ -4,6 +4,8 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +20,7 @@ public abstract class SharedTopicListener implements TopicListener {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
+    private final List<Runnable> reconnectHandlers = new CopyOnWriteArrayList<>();
 
     @Override
     @SuppressWarnings("deprecation")
@@ -35,5 +38,19 @@ public abstract class SharedTopicListener implements TopicListener {
                 .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
     }
 
+    /**
+     * Registers a handler to be called when the shared listener reconnects. Messages published while it was
+     * disconnected are not received by its subscribers.
+     *
+     * @param handler the reconnect handler
+     */
+    public void onReconnect(Runnable handler) {
+        reconnectHandlers.add(handler);
+    }
+
     protected abstract Flux<TopicMessage> getSharedListener(TopicMessageFilter filter);
+
+    protected void reconnected() {
+        reconnectHandlers.forEach(Runnable::run);
+    }
 }
@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.CustomLog;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Subscribes once to a shared flux of topic messages for all topics and routes each message only to the subscribers of
+ * its topic, so the cost of dispatching a message does not grow with the number of subscribers to other topics. The
+ * upstream flux is subscribed when the first subscriber arrives and cancelled when the last one leaves. A filter without
+ * a topic ID receives the messages for all topics.
+ */
+@CustomLog
+final class TopicMessageDispatcher {
+
+    private final Flux<TopicMessage> topicMessages;
+    private final Map<EntityId, Set<FluxSink<TopicMessage>>> subscribers = new ConcurrentHashMap<>();
+    private final Set<FluxSink<TopicMessage>> allTopicSubscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger(0);
+    private Disposable upstream;
+
+    TopicMessageDispatcher(Flux<TopicMessage> topicMessages, MeterRegistry meterRegistry, String mode) {
+        this.topicMessages = topicMessages;
+
+        Gauge.builder("hedera.mirror.grpc.listener.subscribers", subscriberCount, AtomicInteger::get)
+                .description("The number of subscribers to the shared listener")
+                .tag(TopicListener.METRIC_TAG, mode)
+                .register(meterRegistry);
+        Gauge.builder("hedera.mirror.grpc.listener.topics", subscribers, Map::size)
+                .description("The number of distinct topics with subscribers to the shared listener")
+                .tag(TopicListener.METRIC_TAG, mode)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns a flux of the messages for the filter's topic. The flux does not honor backpressure, so it's expected to
+     * be buffered by the caller.
+     */
+    Flux<TopicMessage> listen(TopicMessageFilter filter) {
+        var topicId = filter.getTopicId();
+        return Flux.create(
+                sink -> {
+                    register(topicId, sink);
+                    sink.onDispose(() -> unregister(topicId, sink));
+                },
+                FluxSink.OverflowStrategy.IGNORE);
+    }
+
+    private synchronized void register(EntityId topicId, FluxSink<TopicMessage> sink) {
+        if (topicId == null) {
+            allTopicSubscribers.add(sink);
+        } else {
+            subscribers.computeIfAbsent(topicId, k -> ConcurrentHashMap.newKeySet()).add(sink);
+        }
+
+        if (subscriberCount.getAndIncrement() == 0) {
+            upstream = topicMessages.subscribe(this::dispatch, this::onError, this::onComplete);
+        }
+    }
+
+    private synchronized void unregister(EntityId topicId, FluxSink<TopicMessage> sink) {
+        var sinks = topicId != null ? subscribers.get(topicId) : allTopicSubscribers;
+        if (sinks == null || !sinks.remove(sink)) {
+            return;
+        }
+
+        if (sinks.isEmpty() && topicId != null) {
+            subscribers.remove(topicId);
+        }
+
+        if (subscriberCount.decrementAndGet() == 0 && upstream != null) {
+            upstream.dispose();
+            upstream = null;
+        }
+    }
+
+    private void dispatch(TopicMessage topicMessage) {
+        var sinks = subscribers.get(topicMessage.getTopicId());
+        if (sinks != null) {
+            sinks.forEach(sink -> sink.next(topicMessage));
+        }
+
+        allTopicSubscribers.forEach(sink -> sink.next(topicMessage));
+    }
+
+    private void onComplete() {
+        terminate(FluxSink::complete);
+    }
+
+    private void onError(Throwable t) {
+        log.error("Error dispatching topic messages", t);
+        terminate(sink -> sink.error(t));
+    }
+
+    private void terminate(Consumer<FluxSink<TopicMessage>> action) {
+        List<FluxSink<TopicMessage>> sinks;
+
+        synchronized (this) {
+            sinks = Stream.concat(subscribers.values().stream().flatMap(Set::stream), allTopicSubscribers.stream())
+                    .toList();
+            subscribers.clear();
+            allTopicSubscribers.clear();
+            subscriberCount.set(0);
+            upstream = null;
+        }
+
+        sinks.forEach(action);
+    }
+}
@@ -2,8 +2,10 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.List;
 import java.util.stream.Stream;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,4 +13,17 @@ public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Finds a page of topic messages in consensus order using a fixed native query, so repeated calls for consecutive
+     * pages of the same topic skip building and translating a criteria query.
+     *
+     * @param topicId   the topic ID
+     * @param startTime the inclusive start timestamp
+     * @param endTime   the exclusive end timestamp
+     * @param limit     the maximum number of messages
+     * @return the page of topic messages
+     */
+    @Transactional(readOnly = true)
+    List<TopicMessage> findPage(EntityId topicId, long startTime, long endTime, int limit);
 }
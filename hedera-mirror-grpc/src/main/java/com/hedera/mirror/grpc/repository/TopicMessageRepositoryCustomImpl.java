@@ -2,6 +2,7 @@
 
 package com.hedera.mirror.grpc.repository;
 
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
 import jakarta.inject.Named;
@@ -11,6 +12,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.util.List;
 import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +28,13 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
     // make the cost estimation of using the index on (topic_id, consensus_timestamp) lower than that of
     // the primary key so pg planner will choose the better index when querying topic messages by id
     private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0";
+    private static final String TOPIC_MESSAGES_PAGE_QUERY =
+            """
+            select * from topic_message
+            where topic_id = :topicId and consensus_timestamp >= :startTime and consensus_timestamp < :endTime
+            order by consensus_timestamp
+            limit :limit
+            """;
 
     private final EntityManager entityManager;
 
@@ -59,4 +68,21 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TopicMessage> findPage(EntityId topicId, long startTime, long endTime, int limit) {
+        if (limit != 1) {
+            entityManager.createNativeQuery(TOPIC_MESSAGES_BY_ID_QUERY_HINT).executeUpdate();
+        }
+
+        return entityManager
+                .createNativeQuery(TOPIC_MESSAGES_PAGE_QUERY, TopicMessage.class)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setParameter("topicId", topicId.getId())
+                .setParameter("startTime", startTime)
+                .setParameter("endTime", endTime)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
 }
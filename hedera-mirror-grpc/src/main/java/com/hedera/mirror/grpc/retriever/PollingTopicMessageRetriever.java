@@ -9,6 +9,7 @@ import com.hedera.mirror.grpc.repository.TopicMessageRepository;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -16,6 +17,7 @@ import lombok.CustomLog;
 import lombok.Data;
 import reactor.core.observability.micrometer.Micrometer;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 import reactor.retry.Jitter;
@@ -28,15 +30,18 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final ObservationRegistry observationRegistry;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageCache topicMessageCache;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
+            TopicMessageCache topicMessageCache,
             TopicMessageRepository topicMessageRepository) {
         this.observationRegistry = observationRegistry;
         this.retrieverProperties = retrieverProperties;
+        this.topicMessageCache = topicMessageCache;
         this.topicMessageRepository = topicMessageRepository;
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
@@ -49,6 +54,53 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
             return Flux.empty();
         }
 
+        // Unthrottled retrieval fills gaps the listener missed, which the cache is just as likely to have missed
+        if (!throttled) {
+            return poll(filter, false);
+        }
+
+        return topicMessageCache
+                .get(filter.getTopicId(), filter.getStartTime())
+                .map(cachedMessages -> retrieve(filter, throttled, cachedMessages))
+                .orElseGet(() -> poll(filter, throttled));
+    }
+
+    /**
+     * Retrieves the messages after the cached range from memory and only queries the database for the messages before
+     * it, if any.
+     */
+    private Flux<TopicMessage> retrieve(
+            TopicMessageFilter filter, boolean throttled, TopicMessageCache.CachedMessages cachedMessages) {
+        Flux<TopicMessage> flux = Flux.fromIterable(cachedMessages.messages());
+        long cacheStartTime = cachedMessages.coveredAfter() + 1;
+
+        if (filter.getStartTime() < cacheStartTime) {
+            var endTime = filter.getEndTime() != null ? Math.min(filter.getEndTime(), cacheStartTime) : cacheStartTime;
+            var databaseFilter = filter.toBuilder().endTime(endTime).build();
+            flux = poll(databaseFilter, throttled).concatWith(flux);
+        } else {
+            log.debug(
+                    "[{}] Retrieving {} messages from cache",
+                    filter.getSubscriberId(),
+                    cachedMessages.messages().size());
+        }
+
+        if (filter.getEndTime() != null) {
+            flux = flux.takeWhile(t -> t.getConsensusTimestamp() < filter.getEndTime());
+        }
+
+        if (filter.hasLimit()) {
+            flux = flux.take(filter.getLimit());
+        }
+
+        return flux;
+    }
+
+    private Flux<TopicMessage> poll(TopicMessageFilter filter, boolean throttled) {
+        if (throttled && retrieverProperties.isStreaming()) {
+            return stream(filter);
+        }
+
         PollingContext context = new PollingContext(filter, throttled);
         return Flux.defer(() -> poll(context))
                 .repeatWhen(Repeat.create(r -> !context.isComplete(), context.getNumRepeats())
@@ -64,6 +116,45 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
                 .doOnNext(context::onNext);
     }
 
+    /**
+     * Streams the messages using keyset pagination, only querying the next page once the previous one has been
+     * requested downstream. This bounds memory to a page regardless of the size of the range and lets a slow client
+     * throttle the retrieval. Retries resume after the last message emitted.
+     */
+    private Flux<TopicMessage> stream(TopicMessageFilter filter) {
+        PollingContext context = new PollingContext(filter, true);
+        return Flux.defer(() -> Flux.generate(() -> new Cursor(context), this::nextPage))
+                .concatMapIterable(page -> page, 1)
+                .subscribeOn(scheduler)
+                .name(METRIC)
+                .tap(Micrometer.observation(observationRegistry))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)))
+                .doOnCancel(context::onComplete)
+                .doOnComplete(context::onComplete)
+                .doOnNext(context::onNext);
+    }
+
+    private Cursor nextPage(Cursor cursor, SynchronousSink<List<TopicMessage>> sink) {
+        int pageSize = (int) Math.min(cursor.remaining, retrieverProperties.getMaxPageSize());
+        var filter = cursor.filter;
+        long endTime = filter.getEndTime() != null ? filter.getEndTime() : Long.MAX_VALUE;
+
+        log.debug("Executing query for page of {} after {}: {}", pageSize, cursor.startTime, filter);
+        var page = topicMessageRepository.findPage(filter.getTopicId(), cursor.startTime, endTime, pageSize);
+
+        if (!page.isEmpty()) {
+            sink.next(page);
+            cursor.startTime = page.getLast().getConsensusTimestamp() + 1;
+            cursor.remaining -= page.size();
+        }
+
+        if (page.size() < pageSize || cursor.remaining <= 0) {
+            sink.complete();
+        }
+
+        return cursor;
+    }
+
     private Flux<TopicMessage> poll(PollingContext context) {
         TopicMessageFilter filter = context.getFilter();
         TopicMessage last = context.getLast();
@@ -80,6 +171,20 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
     }
 
+    private static class Cursor {
+
+        private final TopicMessageFilter filter;
+        private long remaining;
+        private long startTime;
+
+        private Cursor(PollingContext context) {
+            var last = context.getLast();
+            filter = context.getFilter();
+            remaining = filter.hasLimit() ? filter.getLimit() - context.getTotal().get() : Long.MAX_VALUE;
+            startTime = last != null ? last.getConsensusTimestamp() + 1 : filter.getStartTime();
+        }
+    }
+
     @Data
     private class PollingContext {
 
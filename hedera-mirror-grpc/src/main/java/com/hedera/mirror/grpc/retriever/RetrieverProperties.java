@@ -16,6 +16,10 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
 
     @Min(32)
@@ -24,6 +28,9 @@ public class RetrieverProperties {
     @NotNull
     private Duration pollingFrequency = Duration.ofSeconds(2L);
 
+    // Stream throttled retrievals page by page on demand instead of polling at a fixed frequency
+    private boolean streaming = false;
+
     @Min(1)
     private int threadMultiplier = 4;
 
@@ -34,6 +41,19 @@ public class RetrieverProperties {
     @Valid
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int maxMessages = 1000;
+
+        @Min(1)
+        private int maxTopics = 10000;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -0,0 +1,245 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.grpc.retriever;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.listener.ListenerProperties;
+import com.hedera.mirror.grpc.listener.NotifyingTopicListener;
+import com.hedera.mirror.grpc.listener.SharedPollingTopicListener;
+import com.hedera.mirror.grpc.listener.TopicListener;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.CustomLog;
+import reactor.core.Disposable;
+
+/**
+ * Keeps a bounded ring buffer of the most recent messages of each topic, filled from the shared listener, so historical
+ * retrieval of recent messages can be served from memory instead of the database.
+ * <p>
+ * The cache only knows it holds every message of a topic after a certain consensus timestamp. That timestamp starts
+ * right before the first message received from the listener, so it doesn't depend on this server's clock, and advances
+ * when messages are evicted from a full buffer, when a gap in sequence numbers is seen, or when the least recently
+ * updated topic is evicted. Since messages are missed while the listener is disconnected, the cache starts over when
+ * the listener reconnects. The cache is started lazily on the first retrieval and is restarted on the next retrieval if
+ * the listener errors.
+ */
+@CustomLog
+@Named
+public class TopicMessageCache {
+
+    // Nothing is known to be cached until the first message is received
+    private static final long NOT_COVERED = Long.MAX_VALUE;
+
+    private final ListenerProperties listenerProperties;
+    private final NotifyingTopicListener notifyingTopicListener;
+    private final RetrieverProperties retrieverProperties;
+    private final SharedPollingTopicListener sharedPollingTopicListener;
+
+    private final Map<EntityId, TopicBuffer> topics = new LinkedHashMap<>(16, 0.75f, true);
+    private long coveredAfter = NOT_COVERED;
+    private long lastTimestamp;
+    private Disposable subscription;
+
+    public TopicMessageCache(
+            ListenerProperties listenerProperties,
+            NotifyingTopicListener notifyingTopicListener,
+            RetrieverProperties retrieverProperties,
+            SharedPollingTopicListener sharedPollingTopicListener) {
+        this.listenerProperties = listenerProperties;
+        this.notifyingTopicListener = notifyingTopicListener;
+        this.retrieverProperties = retrieverProperties;
+        this.sharedPollingTopicListener = sharedPollingTopicListener;
+        notifyingTopicListener.onReconnect(this::reset);
+        sharedPollingTopicListener.onReconnect(this::reset);
+    }
+
+    /**
+     * Gets the cached messages of a topic with a consensus timestamp greater than or equal to the start time.
+     *
+     * @param topicId   the topic ID
+     * @param startTime the inclusive start time
+     * @return the cached messages and the timestamp after which they are complete, or empty if the cache is not active
+     *         or hasn't received any message yet
+     */
+    public synchronized Optional<CachedMessages> get(EntityId topicId, long startTime) {
+        if (!isActive() || coveredAfter == NOT_COVERED) {
+            return Optional.empty();
+        }
+
+        var buffer = topics.get(topicId);
+        if (buffer == null) {
+            return Optional.of(new CachedMessages(coveredAfter, List.of()));
+        }
+
+        return Optional.of(new CachedMessages(buffer.coveredAfter, buffer.get(startTime)));
+    }
+
+    synchronized void add(TopicMessage topicMessage) {
+        var topicId = topicMessage.getTopicId();
+        long consensusTimestamp = topicMessage.getConsensusTimestamp();
+        var buffer = topics.get(topicId);
+
+        if (coveredAfter == NOT_COVERED) {
+            // The listener delivers messages in consensus order, so every message after this one will be received
+            coveredAfter = consensusTimestamp - 1;
+            lastTimestamp = coveredAfter;
+        }
+
+        if (buffer == null) {
+            if (consensusTimestamp <= coveredAfter) {
+                return;
+            }
+
+            buffer = new TopicBuffer(retrieverProperties.getCache().getMaxMessages(), coveredAfter);
+            topics.put(topicId, buffer);
+            evictTopic();
+        }
+
+        buffer.add(topicMessage);
+        lastTimestamp = Math.max(lastTimestamp, consensusTimestamp);
+    }
+
+    private void evictTopic() {
+        if (topics.size() <= retrieverProperties.getCache().getMaxTopics()) {
+            return;
+        }
+
+        // Topics without a buffer are only complete after the latest message once a topic has been evicted
+        var eldest = topics.entrySet().iterator();
+        eldest.next();
+        eldest.remove();
+        coveredAfter = Math.max(coveredAfter, lastTimestamp);
+    }
+
+    private boolean isActive() {
+        if (!retrieverProperties.getCache().isEnabled() || !listenerProperties.isEnabled()) {
+            stop();
+            return false;
+        }
+
+        if (subscription == null) {
+            var listener = getListener();
+            if (listener == null) {
+                return false;
+            }
+
+            topics.clear();
+            coveredAfter = NOT_COVERED;
+
+            // A filter without a topic ID receives the messages of all topics
+            var filter = TopicMessageFilter.builder()
+                    .startTime(0L)
+                    .subscriberId("cache")
+                    .build();
+            subscription = listener.listen(filter).subscribe(this::add, this::onError, this::stop);
+            if (subscription.isDisposed()) {
+                subscription = null;
+                return false;
+            }
+
+            log.info("Caching topic messages from the {} listener", listenerProperties.getType());
+        }
+
+        return true;
+    }
+
+    private synchronized void reset() {
+        if (subscription != null) {
+            log.info("Clearing topic message cache after the {} listener reconnected", listenerProperties.getType());
+            topics.clear();
+            coveredAfter = NOT_COVERED;
+        }
+    }
+
+    private TopicListener getListener() {
+        return switch (listenerProperties.getType()) {
+            case NOTIFY -> notifyingTopicListener;
+            case SHARED_POLL -> sharedPollingTopicListener;
+            default -> null;
+        };
+    }
+
+    private void onError(Throwable t) {
+        log.warn("Clearing topic message cache after listener error: {}", t.getMessage());
+        stop();
+    }
+
+    private synchronized void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+            topics.clear();
+        }
+    }
+
+    /**
+     * The cached messages of a topic in consensus order.
+     *
+     * @param coveredAfter the consensus timestamp after which the cache holds every message of the topic
+     * @param messages     the cached messages
+     */
+    public record CachedMessages(long coveredAfter, List<TopicMessage> messages) {}
+
+    private static class TopicBuffer {
+
+        private final TopicMessage[] messages;
+        private long coveredAfter;
+        private int head;
+        private int size;
+
+        private TopicBuffer(int capacity, long coveredAfter) {
+            this.messages = new TopicMessage[capacity];
+            this.coveredAfter = coveredAfter;
+        }
+
+        private void add(TopicMessage topicMessage) {
+            long consensusTimestamp = topicMessage.getConsensusTimestamp();
+            if (consensusTimestamp <= coveredAfter) {
+                return;
+            }
+
+            if (size > 0) {
+                var last = messages[(head + size - 1) % messages.length];
+                if (topicMessage.getSequenceNumber() <= last.getSequenceNumber()) {
+                    return; // Duplicate
+                }
+
+                if (topicMessage.getSequenceNumber() != last.getSequenceNumber() + 1) {
+                    // Missed messages between the last and this one, so only this one is known to be complete
+                    Arrays.fill(messages, null);
+                    head = 0;
+                    size = 0;
+                    coveredAfter = consensusTimestamp - 1;
+                }
+            }
+
+            if (size == messages.length) {
+                coveredAfter = messages[head].getConsensusTimestamp();
+                messages[head] = null;
+                head = (head + 1) % messages.length;
+                size--;
+            }
+
+            messages[(head + size) % messages.length] = topicMessage;
+            size++;
+        }
+
+        private List<TopicMessage> get(long startTime) {
+            var result = new ArrayList<TopicMessage>();
+            for (int i = 0; i < size; i++) {
+                var topicMessage = messages[(head + i) % messages.length];
+                if (topicMessage.getConsensusTimestamp() >= startTime) {
+                    result.add(topicMessage);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -91,6 +91,23 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void jsonArray() {
+        var topicId = EntityId.of(1002L);
+        var topicMessage1 = topicMessage(topicId, 1L);
+        var topicMessage2 = topicMessage(topicId, 2L);
+        var payload = "[" + toJson(topicMessage1) + "," + toJson(topicMessage2) + "]";
+        var filter = TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.queryForMap("select pg_notify('topic_message', ?)", payload))
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNext(topicMessage1, topicMessage2)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
     @Test
     void jsonError() {
         TopicMessageFilter filter = TopicMessageFilter.builder().startTime(0).build();
@@ -115,6 +132,19 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .blockLast();
     }
 
+    private TopicMessage topicMessage(EntityId topicId, long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(1594401417000000000L + sequenceNumber)
+                .message(new byte[] {1, 2, 3})
+                .payerAccountId(EntityId.of(4294968296L))
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(2)
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId)
+                .validStartTimestamp(1594401416000000000L)
+                .build();
+    }
+
     private String toJson(TopicMessage topicMessage) {
         try {
             return topicListener.objectMapper.writeValueAsString(topicMessage);
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TopicMessageDispatcherTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(1L);
+    private static final EntityId TOPIC1 = EntityId.of(100L);
+    private static final EntityId TOPIC2 = EntityId.of(101L);
+
+    private final AtomicInteger upstreamSubscriptions = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Sinks.Many<TopicMessage> upstream;
+    private TopicMessageDispatcher dispatcher;
+
+    @BeforeEach
+    void setup() {
+        upstream = Sinks.many().multicast().directBestEffort();
+        var topicMessages = upstream.asFlux().doOnSubscribe(s -> upstreamSubscriptions.incrementAndGet());
+        dispatcher = new TopicMessageDispatcher(topicMessages, meterRegistry, "test");
+    }
+
+    @Test
+    void routesByTopic() {
+        var topic1Message = topicMessage(TOPIC1, 1L);
+        var topic2Message = topicMessage(TOPIC2, 1L);
+
+        var topic2Verifier = dispatcher.listen(filter(TOPIC2))
+                .as(StepVerifier::create)
+                .expectNext(topic2Message)
+                .thenCancel()
+                .verifyLater();
+
+        dispatcher
+                .listen(filter(TOPIC1))
+                .as(StepVerifier::create)
+                .then(() -> upstream.tryEmitNext(topic1Message))
+                .then(() -> upstream.tryEmitNext(topic2Message))
+                .expectNext(topic1Message)
+                .thenCancel()
+                .verify(WAIT);
+
+        topic2Verifier.verify(WAIT);
+        assertThat(upstreamSubscriptions).hasValue(1);
+    }
+
+    @Test
+    void allTopics() {
+        var topic1Message = topicMessage(TOPIC1, 1L);
+        var topic2Message = topicMessage(TOPIC2, 1L);
+
+        dispatcher
+                .listen(TopicMessageFilter.builder().build())
+                .as(StepVerifier::create)
+                .then(() -> upstream.tryEmitNext(topic1Message))
+                .then(() -> upstream.tryEmitNext(topic2Message))
+                .expectNext(topic1Message, topic2Message)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
+    @Test
+    void metrics() {
+        var topic1 = dispatcher.listen(filter(TOPIC1)).subscribe();
+        var topic1Again = dispatcher.listen(filter(TOPIC1)).subscribe();
+        var topic2 = dispatcher.listen(filter(TOPIC2)).subscribe();
+
+        assertThat(gauge("hedera.mirror.grpc.listener.subscribers")).isEqualTo(3.0);
+        assertThat(gauge("hedera.mirror.grpc.listener.topics")).isEqualTo(2.0);
+
+        topic1.dispose();
+        topic2.dispose();
+
+        assertThat(gauge("hedera.mirror.grpc.listener.subscribers")).isEqualTo(1.0);
+        assertThat(gauge("hedera.mirror.grpc.listener.topics")).isEqualTo(1.0);
+
+        topic1Again.dispose();
+        assertThat(gauge("hedera.mirror.grpc.listener.subscribers")).isZero();
+        assertThat(upstream.currentSubscriberCount()).isZero();
+    }
+
+    @Test
+    void resubscribe() {
+        dispatcher.listen(filter(TOPIC1)).subscribe().dispose();
+        var topicMessage = topicMessage(TOPIC1, 1L);
+
+        dispatcher
+                .listen(filter(TOPIC1))
+                .as(StepVerifier::create)
+                .then(() -> upstream.tryEmitNext(topicMessage))
+                .expectNext(topicMessage)
+                .thenCancel()
+                .verify(WAIT);
+
+        assertThat(upstreamSubscriptions).hasValue(2);
+    }
+
+    @Test
+    void upstreamError() {
+        dispatcher
+                .listen(filter(TOPIC1))
+                .as(StepVerifier::create)
+                .then(() -> upstream.tryEmitError(new IllegalStateException("error")))
+                .expectErrorMessage("error")
+                .verify(WAIT);
+
+        assertThat(gauge("hedera.mirror.grpc.listener.subscribers")).isZero();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    private TopicMessageFilter filter(EntityId topicId) {
+        return TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+    }
+
+    private TopicMessage topicMessage(EntityId topicId, long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId)
+                .build();
+    }
+}
@@ -110,6 +110,27 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void findPage() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+        var topicMessage3 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-1))).block();
+        var topicId = topicMessage1.getTopicId();
+        long startTime = topicMessage1.getConsensusTimestamp();
+
+        assertThat(topicMessageRepository.findPage(topicId, startTime, Long.MAX_VALUE, 10))
+                .containsExactly(topicMessage1, topicMessage2, topicMessage3);
+        assertThat(topicMessageRepository.findPage(topicId, startTime, Long.MAX_VALUE, 2))
+                .containsExactly(topicMessage1, topicMessage2);
+        assertThat(topicMessageRepository.findPage(topicId, startTime + 1, Long.MAX_VALUE, 1))
+                .containsExactly(topicMessage2);
+        assertThat(topicMessageRepository.findPage(topicId, startTime, topicMessage3.getConsensusTimestamp(), 10))
+                .containsExactly(topicMessage1, topicMessage2);
+        assertThat(topicMessageRepository.findPage(EntityId.of(-2), 0L, Long.MAX_VALUE, 10))
+                .isEmpty();
+    }
+
     @Test
     void findLatest() {
         // given
@@ -248,6 +248,59 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
         retrieverProperties.setTimeout(timeout);
     }
 
+    @Test
+    void streaming() {
+        int maxPageSize = overrideMaxPageSize(true, 2);
+        retrieverProperties.setStreaming(true);
+        domainBuilder.topicMessages(5, now).blockLast();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(1L))).block();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
+
+        try {
+            pollingTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(p -> StepVerifier.create(p, 1))
+                    .expectNext(1L)
+                    .thenRequest(3)
+                    .expectNext(2L, 3L, 4L)
+                    .thenRequest(Long.MAX_VALUE)
+                    .expectNext(5L)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            retrieverProperties.setStreaming(false);
+            restoreMaxPageSize(true, maxPageSize);
+        }
+    }
+
+    @Test
+    void streamingWithLimitAndEndTime() {
+        retrieverProperties.setStreaming(true);
+        var topicMessages = domainBuilder.topicMessages(5, now).collectList().block();
+
+        var filter = TopicMessageFilter.builder()
+                .endTime(topicMessages.get(4).getConsensusTimestamp())
+                .limit(3)
+                .startTime(topicMessages.get(1).getConsensusTimestamp())
+                .topicId(TOPIC_ID)
+                .build();
+
+        try {
+            pollingTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .expectNext(2L, 3L, 4L)
+                    .expectComplete()
+                    .verify(WAIT);
+        } finally {
+            retrieverProperties.setStreaming(false);
+        }
+    }
+
     @Test
     void unthrottledShouldKeepPolling() {
         retrieverProperties.getUnthrottled().setMaxPolls(20);
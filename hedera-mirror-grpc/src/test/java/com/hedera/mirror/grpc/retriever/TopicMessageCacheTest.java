@@ -0,0 +1,201 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.grpc.listener.ListenerProperties;
+import com.hedera.mirror.grpc.listener.ListenerProperties.ListenerType;
+import com.hedera.mirror.grpc.listener.NotifyingTopicListener;
+import com.hedera.mirror.grpc.listener.SharedPollingTopicListener;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import reactor.core.publisher.Sinks;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC1 = EntityId.of(100L);
+    private static final EntityId TOPIC2 = EntityId.of(101L);
+
+    private final ListenerProperties listenerProperties = new ListenerProperties();
+    private final RetrieverProperties retrieverProperties = new RetrieverProperties();
+
+    @Mock
+    private NotifyingTopicListener notifyingTopicListener;
+
+    @Mock
+    private SharedPollingTopicListener sharedPollingTopicListener;
+
+    private Sinks.Many<TopicMessage> messages;
+    private TopicMessageCache topicMessageCache;
+    private long start;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties.setType(ListenerType.SHARED_POLL);
+        retrieverProperties.getCache().setEnabled(true);
+        retrieverProperties.getCache().setMaxMessages(3);
+        retrieverProperties.getCache().setMaxTopics(2);
+        messages = Sinks.many().multicast().onBackpressureBuffer();
+        when(sharedPollingTopicListener.listen(any())).thenReturn(messages.asFlux());
+        topicMessageCache = new TopicMessageCache(
+                listenerProperties, notifyingTopicListener, retrieverProperties, sharedPollingTopicListener);
+        start = DomainUtils.now();
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.getCache().setEnabled(false);
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+    }
+
+    @Test
+    void unsupportedListener() {
+        listenerProperties.setType(ListenerType.REDIS);
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+    }
+
+    @Test
+    void empty() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        emit(TOPIC2, 1L, start);
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).get().satisfies(c -> {
+            assertThat(c.coveredAfter()).isEqualTo(start - 1);
+            assertThat(c.messages()).isEmpty();
+        });
+    }
+
+    @Test
+    void get() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        var message1 = emit(TOPIC1, 1L, start + 1);
+        var message2 = emit(TOPIC1, 2L, start + 2);
+        emit(TOPIC2, 1L, start + 3);
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L))
+                .get()
+                .returns(start, TopicMessageCache.CachedMessages::coveredAfter)
+                .extracting(TopicMessageCache.CachedMessages::messages)
+                .asList()
+                .containsExactly(message1, message2);
+        assertThat(topicMessageCache.get(TOPIC1, start + 2).orElseThrow().messages())
+                .containsExactly(message2);
+    }
+
+    @Test
+    void ignoresMessagesBeforeStart() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        emit(TOPIC1, 1L, start + 1);
+        emit(TOPIC2, 1L, start);
+        assertThat(topicMessageCache.get(TOPIC2, 0L).orElseThrow().messages()).isEmpty();
+    }
+
+    @Test
+    void evictsOldestMessage() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        var topicMessages = LongStream.rangeClosed(1, 4)
+                .mapToObj(i -> emit(TOPIC1, i, start + i))
+                .toList();
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L))
+                .get()
+                .returns(start + 1, TopicMessageCache.CachedMessages::coveredAfter)
+                .extracting(TopicMessageCache.CachedMessages::messages)
+                .asList()
+                .containsExactlyElementsOf(topicMessages.subList(1, 4));
+    }
+
+    @Test
+    void sequenceGap() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        emit(TOPIC1, 1L, start + 1);
+        var message3 = emit(TOPIC1, 3L, start + 3);
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L))
+                .get()
+                .returns(start + 2, TopicMessageCache.CachedMessages::coveredAfter)
+                .extracting(TopicMessageCache.CachedMessages::messages)
+                .asList()
+                .containsExactly(message3);
+    }
+
+    @Test
+    void evictsTopic() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        emit(TOPIC1, 1L, start + 1);
+        emit(TOPIC2, 1L, start + 2);
+        emit(EntityId.of(102L), 1L, start + 3);
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L))
+                .get()
+                .returns(start + 2, TopicMessageCache.CachedMessages::coveredAfter)
+                .extracting(TopicMessageCache.CachedMessages::messages)
+                .asList()
+                .isEmpty();
+        assertThat(topicMessageCache.get(TOPIC2, 0L).orElseThrow().messages()).hasSize(1);
+    }
+
+    @Test
+    void restartsAfterError() {
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        emit(TOPIC1, 1L, start + 1);
+        messages.tryEmitError(new IllegalStateException("overflow"));
+
+        messages = Sinks.many().multicast().onBackpressureBuffer();
+        when(sharedPollingTopicListener.listen(any())).thenReturn(messages.asFlux());
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        var message2 = emit(TOPIC1, 2L, start + 2);
+        assertThat(topicMessageCache.get(TOPIC1, 0L))
+                .get()
+                .returns(start + 1, TopicMessageCache.CachedMessages::coveredAfter)
+                .extracting(TopicMessageCache.CachedMessages::messages)
+                .asList()
+                .containsExactly(message2);
+    }
+
+    @Test
+    void resetsOnReconnect() {
+        var reconnectHandler = ArgumentCaptor.forClass(Runnable.class);
+        verify(sharedPollingTopicListener).onReconnect(reconnectHandler.capture());
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        emit(TOPIC1, 1L, start + 1);
+
+        reconnectHandler.getValue().run();
+
+        assertThat(topicMessageCache.get(TOPIC1, 0L)).isEmpty();
+        var message3 = emit(TOPIC1, 3L, start + 3);
+        assertThat(topicMessageCache.get(TOPIC1, 0L))
+                .get()
+                .returns(start + 2, TopicMessageCache.CachedMessages::coveredAfter)
+                .extracting(TopicMessageCache.CachedMessages::messages)
+                .asList()
+                .containsExactly(message3);
+    }
+
+    private TopicMessage emit(EntityId topicId, long sequenceNumber, long consensusTimestamp) {
+        var topicMessage = TopicMessage.builder()
+                .consensusTimestamp(consensusTimestamp)
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId)
+                .build();
+        messages.tryEmitNext(topicMessage);
+        return topicMessage;
+    }
+}
@@ -5,6 +5,13 @@ package com.hedera.mirror.importer.db;
 import java.util.List;
 
 public interface TimePartitionService {
+    /**
+     * Detach the time partition from its parent table and drop it, along with all of its rows.
+     *
+     * @param timePartition The time partition to drop
+     */
+    void dropTimePartition(TimePartition timePartition);
+
     /**
      * Get the time partitions overlapping the range [fromTimestamp, toTimestamp]
      *
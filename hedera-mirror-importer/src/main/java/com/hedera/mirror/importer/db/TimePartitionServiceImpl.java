@@ -7,6 +7,7 @@ import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_TIME_PA
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_TIME_PARTITION_OVERLAP;
 
 import com.google.common.collect.Range;
+import com.hedera.mirror.importer.config.Owner;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -22,6 +23,7 @@ import org.springframework.jdbc.core.RowMapper;
 @Named
 public class TimePartitionServiceImpl implements TimePartitionService {
 
+    private static final String DROP_TIME_PARTITION_SQL = "alter table %1$s detach partition %2$s; drop table %2$s";
     private static final String GET_TIME_PARTITIONS_SQL = "select * from mirror_node_time_partitions where parent = ?";
     private static final RowMapper<TimePartition> ROW_MAPPER = (rs, rowNum) -> TimePartition.builder()
             .name(rs.getString("name"))
@@ -32,14 +34,30 @@ public class TimePartitionServiceImpl implements TimePartitionService {
     private final Cache cacheTimePartitionOverlap;
     private final Cache cacheTimePartition;
     private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate ownerJdbcTemplate;
 
     TimePartitionServiceImpl(
             @Qualifier(CACHE_TIME_PARTITION_OVERLAP) CacheManager cacheManagerOverlapTimePartition,
             @Qualifier(CACHE_TIME_PARTITION) CacheManager cacheManagerTimePartition,
-            JdbcTemplate jdbcTemplate) {
+            JdbcTemplate jdbcTemplate,
+            @Owner JdbcTemplate ownerJdbcTemplate) {
         this.cacheTimePartitionOverlap = cacheManagerOverlapTimePartition.getCache(CACHE_NAME);
         this.cacheTimePartition = cacheManagerTimePartition.getCache(CACHE_NAME);
         this.jdbcTemplate = jdbcTemplate;
+        this.ownerJdbcTemplate = ownerJdbcTemplate;
+    }
+
+    @Override
+    public void dropTimePartition(TimePartition timePartition) {
+        // Both statements run in the same implicit transaction so the partition is never left detached
+        var parent = quoteIdentifier(timePartition.getParent());
+        var name = quoteIdentifier(timePartition.getName());
+        try {
+            ownerJdbcTemplate.execute(String.format(DROP_TIME_PARTITION_SQL, parent, name));
+        } finally {
+            cacheTimePartition.evict(timePartition.getParent());
+            cacheTimePartitionOverlap.clear();
+        }
     }
 
     @Override
@@ -100,6 +118,10 @@ public class TimePartitionServiceImpl implements TimePartitionService {
         return Collections.unmodifiableList(overlappingPartitions);
     }
 
+    private static String quoteIdentifier(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
     private List<TimePartition> queryForTimePartitions(String tableName) {
         try {
             var partitions = jdbcTemplate.query(GET_TIME_PARTITIONS_SQL, ROW_MAPPER, tableName);
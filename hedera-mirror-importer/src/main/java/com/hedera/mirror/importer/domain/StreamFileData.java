@@ -12,7 +12,9 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.CustomLog;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -35,8 +37,8 @@ public class StreamFileData {
 
     private final Supplier<byte[]> bytes;
 
-    @Getter(lazy = true)
-    private final byte[] decompressedBytes = decompressBytes();
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<byte[]> decompressedBytes = new AtomicReference<>();
 
     private final Instant lastModified;
 
@@ -85,8 +87,52 @@ public class StreamFileData {
         return bytes.get();
     }
 
+    /**
+     * Gets the decompressed file contents, decompressing and retaining them on first access. Prefer
+     * {@link #getInputStream()} when the contents only need to be read once.
+     */
+    public byte[] getDecompressedBytes() {
+        if (StringUtils.isBlank(streamFilename.getCompressor())) {
+            return getBytes();
+        }
+
+        var decompressed = decompressedBytes.get();
+        if (decompressed == null) {
+            try (var inputStream = getInputStream()) {
+                decompressed = inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw decompressionError(e);
+            }
+
+            if (!decompressedBytes.compareAndSet(null, decompressed)) {
+                decompressed = decompressedBytes.get();
+            }
+        }
+
+        return decompressed;
+    }
+
+    /**
+     * Gets a stream of the decompressed file contents. Unless the decompressed bytes have already been retained, the
+     * contents are decompressed while the stream is read so only the compressed bytes are held in memory.
+     */
     public InputStream getInputStream() {
-        return new ByteArrayInputStream(getDecompressedBytes());
+        var decompressed = decompressedBytes.get();
+        if (decompressed != null) {
+            return new ByteArrayInputStream(decompressed);
+        }
+
+        var inputStream = new ByteArrayInputStream(getBytes());
+        var compressor = streamFilename.getCompressor();
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            throw decompressionError(e);
+        }
     }
 
     public String getFilename() {
@@ -102,20 +148,9 @@ public class StreamFileData {
         return streamFilename.toString();
     }
 
-    private byte[] decompressBytes() {
-        var compressor = streamFilename.getCompressor();
-        if (StringUtils.isBlank(compressor)) {
-            return getBytes();
-        }
-
-        try (var inputStream = new ByteArrayInputStream(getBytes());
-                var compressorInputStream =
-                        compressorStreamFactory.createCompressorInputStream(compressor, inputStream)) {
-            return compressorInputStream.readAllBytes();
-        } catch (CompressorException | IOException e) {
-            var filename = streamFilename.getFilename();
-            log.error("Failed to decompress stream file {}", filename);
-            throw new InvalidStreamFileException(filename, e);
-        }
+    private InvalidStreamFileException decompressionError(Exception e) {
+        var filename = streamFilename.getFilename();
+        log.error("Failed to decompress stream file {}", filename);
+        return new InvalidStreamFileException(filename, e);
     }
 }
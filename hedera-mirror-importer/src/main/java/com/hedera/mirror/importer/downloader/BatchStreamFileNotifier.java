@@ -7,7 +7,7 @@ import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.parser.AbstractParserProperties.BatchProperties;
 import com.hedera.mirror.importer.parser.StreamFileParser;
 import com.hedera.mirror.importer.parser.balance.AccountBalanceFileParser;
-import com.hedera.mirror.importer.parser.record.RecordFileParser;
+import com.hedera.mirror.importer.parser.record.RecordFilePipeline;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
 import java.io.Closeable;
@@ -33,9 +33,9 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
     private final StreamFileSubscriber recordStreamFileSubscriber;
     private final ExecutorService executorService;
 
-    BatchStreamFileNotifier(AccountBalanceFileParser accountBalanceFileParser, RecordFileParser recordFileParser) {
+    BatchStreamFileNotifier(AccountBalanceFileParser accountBalanceFileParser, RecordFilePipeline recordFilePipeline) {
         balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser);
-        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser);
+        recordStreamFileSubscriber = new StreamFileSubscriber(recordFilePipeline);
         executorService = Executors.newFixedThreadPool(2);
         executorService.execute(balanceStreamFileSubscriber);
         executorService.execute(recordStreamFileSubscriber);
@@ -61,6 +61,8 @@ public class CommonDownloaderProperties {
     @Min(2L)
     private long maxSize = 50L * 1024L * 1024L; // 50 MiB
 
+    private boolean parallelVerification = true;
+
     @DurationMin(seconds = 1)
     @NotNull
     private Duration pathRefreshInterval = Duration.ofSeconds(10L);
@@ -70,6 +72,9 @@ public class CommonDownloaderProperties {
 
     private String pathPrefix = "";
 
+    @Min(0)
+    private int prefetch = 0;
+
     private String region = "us-east-1";
 
     private String secretKey;
@@ -30,12 +30,14 @@ import com.hedera.mirror.importer.reader.signature.SignatureFileReader;
 import com.hedera.mirror.importer.util.ShutdownHelper;
 import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -45,14 +47,17 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -91,6 +96,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     // Metrics
     private final MeterRegistry meterRegistry;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
+    private final AtomicInteger prefetchInFlight = new AtomicInteger(0);
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
     private final Timer streamCloseMetric;
@@ -141,6 +147,16 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamVerificationMetric = Timer.builder("hedera.mirror.download.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        Gauge.builder("hedera.mirror.download.prefetch.depth", () -> downloaderProperties.getCommon().getPrefetch())
+                .description("The maximum number of data files downloaded ahead of the file being verified")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
+        Gauge.builder("hedera.mirror.download.prefetch.inflight", prefetchInFlight, AtomicInteger::get)
+                .description("The number of data files currently being downloaded ahead of verification")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
     }
 
     public abstract void download();
@@ -270,6 +286,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * When prefetch is enabled, the data files of up to the next prefetch groups are downloaded and decompressed
+     * concurrently while the current group is verified. Verification of the hash chain is still done strictly in order.
      *
      * @param sigFilesMap signature files grouped by filename
      */
@@ -278,41 +297,89 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        int prefetch = downloaderProperties.getCommon().getPrefetch();
+        var sigFilenameIter = sigFilesMap.keySet().iterator();
+        var window = new ArrayDeque<PendingGroup>();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            while (sigFilenameIter.hasNext() || !window.isEmpty()) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                while (sigFilenameIter.hasNext() && window.size() <= prefetch) {
+                    var sigFilename = sigFilenameIter.next();
+                    window.add(verifyNodeSignatures(sigFilesMap.get(sigFilename), prefetch > 0));
+                }
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
-                    continue;
+                Instant startTime = Instant.now();
+                var group = window.poll();
+                var signatures = group.signatures();
+
+                if (group.error() != null) {
+                    var statusMapMessage = statusMap(signatures, nodeIds);
+                    if (sigFilenameIter.hasNext() || !window.isEmpty()) {
+                        log.warn("{}. Trying next group: {}", group.error().getMessage(), statusMapMessage);
+                        continue;
+                    }
+
+                    throw new SignatureVerificationException(group.error().getMessage() + ": " + statusMapMessage);
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
-            }
+                boolean valid = verifySignatures(group);
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
+                }
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(Duration.between(startTime, Instant.now()));
             }
+        } finally {
+            window.forEach(PendingGroup::cancel);
+        }
+    }
+
+    /**
+     * Verifies the node signatures of a group of signature files and optionally starts downloading the data file
+     * corresponding to the first signature that reached consensus.
+     *
+     * @param signatures the signature files with the same filename
+     * @param prefetch   whether to start downloading the data file in the background
+     * @return the pending group
+     */
+    private PendingGroup verifyNodeSignatures(Collection<StreamFileSignature> signatures, boolean prefetch) {
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException ex) {
+            return new PendingGroup(signatures, ex, null, null);
+        }
+
+        if (!prefetch) {
+            return new PendingGroup(signatures, null, null, null);
+        }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+        var signature = signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .findFirst()
+                .orElse(null);
+        if (signature == null) {
+            return new PendingGroup(signatures, null, null, null);
         }
+
+        var future = streamFileProvider
+                .get(signature.getNode(), signature.getDataFilename())
+                .publishOn(Schedulers.parallel())
+                .doOnNext(StreamFileData::getDecompressedBytes)
+                .doOnSubscribe(s -> prefetchInFlight.incrementAndGet())
+                .doFinally(s -> prefetchInFlight.decrementAndGet())
+                .toFuture();
+        return new PendingGroup(signatures, null, signature, future);
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    private boolean verifySignatures(PendingGroup group) {
+        var signatures = group.signatures();
         Instant endDate = importerProperties.getEndDate();
 
         for (var signature : signatures) {
@@ -326,8 +393,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
+                var streamFileData = Objects.requireNonNull(getStreamFileData(group, signature));
                 T streamFile = streamFileReader.read(streamFileData);
                 streamFile.setNodeId(nodeId);
 
@@ -374,6 +440,17 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    /**
+     * Gets the data file for the signature, using the prefetched download if it was started for the same signature.
+     */
+    private StreamFileData getStreamFileData(PendingGroup group, StreamFileSignature signature) {
+        if (group.data() != null && group.signature() == signature) {
+            return Mono.fromFuture(group.data()).block();
+        }
+
+        return streamFileProvider.get(signature.getNode(), signature.getDataFilename()).block();
+    }
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
@@ -517,4 +594,17 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private record PendingGroup(
+            Collection<StreamFileSignature> signatures,
+            SignatureVerificationException error,
+            StreamFileSignature signature,
+            CompletableFuture<StreamFileData> data) {
+
+        void cancel() {
+            if (data != null) {
+                data.cancel(true);
+            }
+        }
+    }
 }
@@ -4,19 +4,52 @@ package com.hedera.mirror.importer.downloader;
 
 import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureStatus;
+import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureType;
 import com.hedera.mirror.importer.exception.SignatureVerificationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
 import java.security.Signature;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 
 @Named
 @CustomLog
-@RequiredArgsConstructor
 public class NodeSignatureVerifier {
 
+    private static final int MAX_CACHED_SIGNATURES = 256;
+
+    private final CommonDownloaderProperties commonDownloaderProperties;
     private final ConsensusValidator consensusValidator;
+    private final Timer invalidMetric;
+    private final Timer validMetric;
+
+    // Signature instances are not thread safe, so each thread keeps its own initialized instance per node key
+    private final ThreadLocal<Map<SignatureKey, Signature>> signatureCache =
+            ThreadLocal.withInitial(() -> new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SignatureKey, Signature> eldest) {
+                    return size() > MAX_CACHED_SIGNATURES;
+                }
+            });
+
+    public NodeSignatureVerifier(
+            CommonDownloaderProperties commonDownloaderProperties,
+            ConsensusValidator consensusValidator,
+            MeterRegistry meterRegistry) {
+        this.commonDownloaderProperties = commonDownloaderProperties;
+        this.consensusValidator = consensusValidator;
+
+        var timer = Timer.builder("hedera.mirror.importer.signature.verification")
+                .description("The time it took to verify the node signature of a signature file");
+        invalidMetric = timer.tag("valid", "false").register(meterRegistry);
+        validMetric = timer.tag("valid", "true").register(meterRegistry);
+    }
 
     /**
      * Verifies that the signature files satisfy the consensus requirement:
@@ -34,12 +67,20 @@ public class NodeSignatureVerifier {
      * @throws SignatureVerificationException
      */
     public void verify(Collection<StreamFileSignature> signatures) throws SignatureVerificationException {
+        var stream = signatures.stream();
+        if (commonDownloaderProperties.isParallelVerification()) {
+            stream = stream.parallel();
+        }
 
-        for (StreamFileSignature streamFileSignature : signatures) {
-            if (verifySignature(streamFileSignature)) {
+        stream.forEach(streamFileSignature -> {
+            long start = System.nanoTime();
+            boolean valid = verifySignature(streamFileSignature);
+            (valid ? validMetric : invalidMetric).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            if (valid) {
                 streamFileSignature.setStatus(SignatureStatus.VERIFIED);
             }
-        }
+        });
 
         consensusValidator.validate(signatures);
     }
@@ -63,13 +104,13 @@ public class NodeSignatureVerifier {
             return false;
         }
 
+        var key = new SignatureKey(publicKey, streamFileSignature.getSignatureType());
+
         try {
             log.trace("Verifying signature: {}", streamFileSignature);
 
-            Signature sig = Signature.getInstance(
-                    streamFileSignature.getSignatureType().getAlgorithm(),
-                    streamFileSignature.getSignatureType().getProvider());
-            sig.initVerify(publicKey);
+            // A successful or failed verify() resets the instance so it can be reused with the same key
+            Signature sig = getSignature(key);
             sig.update(streamFileSignature.getFileHash());
 
             if (!sig.verify(streamFileSignature.getFileHashSignature())) {
@@ -83,8 +124,26 @@ public class NodeSignatureVerifier {
 
             return true;
         } catch (Exception e) {
+            // The instance may have been left in an unknown state
+            signatureCache.get().remove(key);
             log.error("Failed to verify signature with public key {}: {}", publicKey, streamFileSignature, e);
         }
         return false;
     }
+
+    private Signature getSignature(SignatureKey key) throws GeneralSecurityException {
+        var cache = signatureCache.get();
+        var sig = cache.get(key);
+
+        if (sig == null) {
+            var signatureType = key.signatureType();
+            sig = Signature.getInstance(signatureType.getAlgorithm(), signatureType.getProvider());
+            sig.initVerify(key.publicKey());
+            cache.put(key, sig);
+        }
+
+        return sig;
+    }
+
+    private record SignatureKey(PublicKey publicKey, SignatureType signatureType) {}
 }
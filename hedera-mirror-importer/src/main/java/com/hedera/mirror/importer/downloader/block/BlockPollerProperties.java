@@ -2,6 +2,7 @@
 
 package com.hedera.mirror.importer.downloader.block;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import lombok.Data;
@@ -24,5 +25,8 @@ public class BlockPollerProperties {
 
     private boolean persistBytes = false;
 
+    @Min(0)
+    private int prefetch = 0;
+
     private boolean writeFiles = false;
 }
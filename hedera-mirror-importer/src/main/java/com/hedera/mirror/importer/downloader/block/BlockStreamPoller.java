@@ -3,22 +3,29 @@
 package com.hedera.mirror.importer.downloader.block;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.BlockFile;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
 import com.hedera.mirror.importer.addressbook.ConsensusNodeService;
+import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamPoller;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.reader.block.BlockFileReader;
+import com.hedera.mirror.importer.util.ShutdownHelper;
 import com.hedera.mirror.importer.util.Utility;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @CustomLog
 @Named
@@ -43,11 +50,22 @@ final class BlockStreamPoller implements StreamPoller {
         }
 
         long blockNumber = getNextBlockNumber();
+        if (poll(blockNumber) && properties.getPrefetch() > 0) {
+            prefetch(blockNumber + 1);
+        }
+    }
+
+    /**
+     * Downloads, reads and verifies a single block, failing over to the next randomly selected node on any error.
+     *
+     * @param blockNumber the block number
+     * @return whether the block was successfully verified
+     */
+    private boolean poll(long blockNumber) {
         var nodes = getRandomizedNodes();
         var stopwatch = Stopwatch.createStarted();
         var streamFilename = StreamFilename.from(blockNumber);
         String filename = streamFilename.getFilename();
-        var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
         var timeout = commonDownloaderProperties.getTimeout();
 
         for (int i = 0; i < nodes.size() && timeout.isPositive(); i++) {
@@ -61,29 +79,97 @@ final class BlockStreamPoller implements StreamPoller {
                         .orElseThrow();
                 log.debug("Downloaded block file {} from node {}", filename, nodeId);
 
-                var blockFile = blockFileReader.read(blockFileData);
-                blockFile.setNodeId(nodeId);
+                var blockFile = read(blockFileData, nodeId);
+                verify(blockFile, blockFileData);
+                return true;
+            } catch (Throwable t) {
+                log.error("Failed to process block file {} from node {}", filename, nodeId, t);
+            }
 
-                byte[] bytes = blockFile.getBytes();
-                if (!properties.isPersistBytes()) {
-                    blockFile.setBytes(null);
-                }
+            timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
+        }
 
-                blockStreamVerifier.verify(blockFile);
+        log.warn("Failed to download block file {}", filename);
+        return false;
+    }
 
-                if (properties.isWriteFiles()) {
-                    Utility.archiveFile(blockFileData.getFilePath(), bytes, streamPath);
+    /**
+     * Concurrently downloads and reads the next blocks, each from its own randomized list of nodes, and verifies them
+     * strictly in order. Stops at the first block that is not available or fails verification, leaving it to the next
+     * poll to retry with full node failover.
+     *
+     * @param startBlockNumber the first block number to prefetch
+     */
+    private void prefetch(long startBlockNumber) {
+        int count = properties.getPrefetch();
+        var blocks = new ArrayList<CompletableFuture<PrefetchedBlock>>(count);
+
+        try {
+            for (int i = 0; i < count; i++) {
+                blocks.add(download(startBlockNumber + i).toFuture());
+            }
+
+            for (var future : blocks) {
+                var block = Mono.fromFuture(future).block();
+                if (block == null || ShutdownHelper.isStopping()) {
+                    return;
                 }
 
-                return;
-            } catch (Throwable t) {
-                log.error("Failed to process block file {} from node {}", filename, nodeId, t);
+                try {
+                    verify(block.blockFile(), block.blockFileData());
+                } catch (Exception e) {
+                    log.warn(
+                            "Failed to verify prefetched block file {} from node {}: {}",
+                            block.blockFileData().getFilename(),
+                            block.blockFile().getNodeId(),
+                            e.getMessage());
+                    return;
+                }
             }
+        } finally {
+            blocks.forEach(future -> future.cancel(true));
+        }
+    }
 
-            timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
+    private Mono<PrefetchedBlock> download(long blockNumber) {
+        var streamFilename = StreamFilename.from(blockNumber);
+        String filename = streamFilename.getFilename();
+        return Flux.fromIterable(getRandomizedNodes())
+                .concatMap(node -> streamFileProvider
+                        .get(node, streamFilename)
+                        .publishOn(Schedulers.parallel())
+                        .map(data -> new PrefetchedBlock(read(data, node.getNodeId()), data))
+                        .doOnNext(b -> log.debug("Prefetched block file {} from node {}", filename, node.getNodeId()))
+                        .onErrorResume(e -> {
+                            log.debug(
+                                    "Unable to prefetch block file {} from node {}: {}",
+                                    filename,
+                                    node.getNodeId(),
+                                    e.getMessage());
+                            return Mono.empty();
+                        }))
+                .next()
+                .timeout(commonDownloaderProperties.getTimeout(), Mono.empty());
+    }
+
+    private BlockFile read(StreamFileData blockFileData, long nodeId) {
+        var blockFile = blockFileReader.read(blockFileData);
+        blockFile.setNodeId(nodeId);
+        return blockFile;
+    }
+
+    private void verify(BlockFile blockFile, StreamFileData blockFileData) {
+        byte[] bytes = blockFile.getBytes();
+        if (!properties.isPersistBytes()) {
+            blockFile.setBytes(null);
         }
 
-        log.warn("Failed to download block file {}", filename);
+        blockStreamVerifier.verify(blockFile);
+
+        if (properties.isWriteFiles()) {
+            var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
+            Utility.archiveFile(blockFileData.getFilePath(), bytes, streamPath);
+        }
     }
 
     private long getNextBlockNumber() {
@@ -103,4 +189,6 @@ final class BlockStreamPoller implements StreamPoller {
         Collections.shuffle(nodes);
         return nodes;
     }
+
+    private record PrefetchedBlock(BlockFile blockFile, StreamFileData blockFileData) {}
 }
@@ -169,6 +169,59 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
         }
     }
 
+    /**
+     * Parses the stream files into the parser state without flushing them, so that they can be flushed later by
+     * {@link #flushPrepared(StreamFile)}, possibly on another thread. The last parsed stream file is optimistically
+     * recorded as the last processed one so that the next batch can be prepared before this one is flushed, and it's up
+     * to the caller to {@link #clear()} it if the flush fails.
+     *
+     * @param streamFiles to parse
+     * @return the last stream file parsed, or null if none of the stream files should be parsed
+     */
+    protected T prepare(List<T> streamFiles) {
+        var previous = getLast();
+        T prepared = null;
+
+        for (var streamFile : streamFiles) {
+            if (!shouldParse(previous, streamFile)) {
+                streamFile.clear();
+                continue;
+            }
+
+            doParse(streamFile);
+            previous = streamFile;
+            prepared = streamFile;
+        }
+
+        if (prepared != null) {
+            last.set(prepared);
+        }
+
+        return prepared;
+    }
+
+    @SuppressWarnings("java:S2139")
+    protected void flushPrepared(T streamFile) {
+        var stopwatch = Stopwatch.createStarted();
+        boolean success = true;
+
+        try {
+            doFlush(streamFile);
+            log.info("Successfully flushed prepared batch ending with {} in {}", streamFile.getName(), stopwatch);
+
+            Instant consensusInstant = Instant.ofEpochSecond(0L, streamFile.getConsensusEnd());
+            parseLatencyMetric.record(Duration.between(consensusInstant, Instant.now()));
+            totalDurationMetric.record(streamFile.getLoadEnd() - streamFile.getLoadStart(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            success = false;
+            log.error("Error flushing prepared batch ending with {} after {}", streamFile.getName(), stopwatch, e);
+            throw e;
+        } finally {
+            Timer timer = success ? parseDurationMetricSuccess : parseDurationMetricFailure;
+            timer.record(stopwatch.elapsed());
+        }
+    }
+
     protected void doFlush(T streamFile) {
         streamFileListener.onEnd(streamFile);
         last.set(streamFile);
@@ -43,6 +43,9 @@ public class CommonParserProperties {
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
+    @NotNull
+    private CopyFormat copyFormat = CopyFormat.CSV;
+
     @NotNull
     @Valid
     private Collection<TransactionFilter> exclude = new ArrayList<>();
@@ -51,6 +54,9 @@ public class CommonParserProperties {
     @Valid
     private Collection<TransactionFilter> include = new ArrayList<>();
 
+    @NotNull
+    private UpsertStrategy upsertStrategy = UpsertStrategy.STANDARD;
+
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
@@ -72,6 +78,16 @@ public class CommonParserProperties {
         return include.stream().map(TransactionFilter::getFilter).reduce(a -> false, Predicate::or);
     }
 
+    public enum CopyFormat {
+        BINARY,
+        CSV
+    }
+
+    public enum UpsertStrategy {
+        PIPELINED, // Clean the temp table in the same round trip as the upsert
+        STANDARD // Clean the temp table, copy into it, then upsert in separate round trips
+    }
+
     @Data
     @Validated
     static class TransactionFilter {
@@ -17,6 +17,7 @@ import com.hedera.mirror.importer.converter.ByteArrayArrayToHexSerializer;
 import com.hedera.mirror.importer.converter.ByteArrayToHexSerializer;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.CopyFormat;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -24,6 +25,8 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.CustomLog;
@@ -41,12 +44,18 @@ public class BatchInserter implements BatchPersister {
     protected final DataSource dataSource;
     protected final Timer latencyMetric;
     protected final MeterRegistry meterRegistry;
+    protected final CommonParserProperties properties;
     protected final String tableName;
 
+    private final Class<?> entityClass;
+    private final CsvMapper mapper;
+    private final List<String> propertyNames;
     private final Counter rowsMetric;
     private final String sql;
+    private final String binarySql;
     private final ObjectWriter writer;
-    private final CommonParserProperties properties;
+
+    private volatile Optional<BinaryCopyWriter> binaryCopyWriter;
 
     public BatchInserter(
             Class<?> entityClass,
@@ -63,10 +72,11 @@ public class BatchInserter implements BatchPersister {
             CommonParserProperties properties,
             String tableName) {
         this.dataSource = dataSource;
+        this.entityClass = entityClass;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
         this.tableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, tableName);
-        var mapper = new CsvMapper();
+        mapper = new CsvMapper();
         SimpleModule module = new SimpleModule();
         module.addSerializer(byte[][].class, ByteArrayArrayToHexSerializer.INSTANCE);
         module.addSerializer(byte[].class, ByteArrayToHexSerializer.INSTANCE);
@@ -77,12 +87,15 @@ public class BatchInserter implements BatchPersister {
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
         writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+        propertyNames = Lists.newArrayList(schema.iterator()).stream()
                 .map(CsvSchema.Column::getName)
                 .distinct()
+                .toList();
+        String columnsCsv = propertyNames.stream()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
                 .collect(Collectors.joining(", "));
         sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        binarySql = String.format("COPY %s(%s) FROM STDIN WITH (FORMAT binary)", this.tableName, columnsCsv);
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -115,6 +128,14 @@ public class BatchInserter implements BatchPersister {
     }
 
     protected void persistItems(Collection<?> items, Connection connection) throws SQLException, IOException {
+        if (properties.getCopyFormat() == CopyFormat.BINARY) {
+            var binaryWriter = getBinaryCopyWriter(connection);
+            if (binaryWriter.isPresent()) {
+                persistItemsBinary(items, connection, binaryWriter.get());
+                return;
+            }
+        }
+
         var stopwatch = Stopwatch.createStarted();
         PGConnection pgConnection = connection.unwrap(PGConnection.class);
         CopyIn copyIn = pgConnection.getCopyAPI().copyIn(sql);
@@ -134,4 +155,41 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    private void persistItemsBinary(Collection<?> items, Connection connection, BinaryCopyWriter binaryWriter)
+            throws SQLException, IOException {
+        var stopwatch = Stopwatch.createStarted();
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        CopyIn copyIn = pgConnection.getCopyAPI().copyIn(binarySql);
+
+        try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
+            binaryWriter.write(items, pgCopyOutputStream);
+            rowsMetric.increment(items.size());
+            latencyMetric.record(stopwatch.elapsed());
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Lazily generates the binary field encoders the first time they're needed since the column types are read from
+     * the database. Falls back to CSV for tables with columns that can't be encoded in the binary format.
+     */
+    private Optional<BinaryCopyWriter> getBinaryCopyWriter(Connection connection) throws SQLException {
+        var current = binaryCopyWriter;
+        if (current == null) {
+            try {
+                current = Optional.of(BinaryCopyWriter.create(connection, tableName, mapper, entityClass, propertyNames));
+            } catch (UnsupportedOperationException e) {
+                log.warn("Falling back to CSV copy for table {}: {}", tableName, e.getMessage());
+                current = Optional.empty();
+            }
+
+            binaryCopyWriter = current;
+        }
+
+        return current;
+    }
 }
@@ -4,16 +4,19 @@ package com.hedera.mirror.importer.parser.batch;
 
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.UpsertStrategy;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 import javax.sql.DataSource;
 import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -23,10 +26,14 @@ import org.springframework.util.CollectionUtils;
 public class BatchUpserter extends BatchInserter {
 
     private final String finalTableName;
+    private final String pipelinedUpsertSql;
     private final String tempTableCleanupSql;
     private final String upsertSql;
     private final Timer upsertMetric;
 
+    // Whether the temp table may contain rows committed by the standard strategy
+    private volatile boolean tempTableDirty = true;
+
     public BatchUpserter(
             Class<?> entityClass,
             DataSource dataSource,
@@ -37,6 +44,7 @@ public class BatchUpserter extends BatchInserter {
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
+        pipelinedUpsertSql = StringUtils.removeEnd(upsertSql.strip(), ";") + ";\n" + tempTableCleanupSql;
         log.trace("Table: {}, Entity: {}, upsertSql:\n{}", finalTableName, entityClass, upsertSql);
         upsertMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -52,20 +60,41 @@ public class BatchUpserter extends BatchInserter {
         }
 
         try {
+            if (properties.getUpsertStrategy() == UpsertStrategy.PIPELINED) {
+                persistItemsPipelined(items, connection);
+                return;
+            }
+
             // create temp table to copy into
             cleanupTempTable(connection);
+            tempTableDirty = true;
 
             // copy items to temp table
             super.persistItems(items, connection);
 
             // Upsert items from the temporary table to the final table
-            upsert(connection);
+            upsert(connection, upsertSql);
         } catch (Exception e) {
             throw new ParserException(
                     String.format("Error copying %d items to table %s", items.size(), finalTableName), e);
         }
     }
 
+    /**
+     * Copies the items to the temp table, then upserts and truncates the temp table in a single round trip since
+     * pgjdbc sends the statements of a multi-statement query together. This leaves the temp table empty whenever a
+     * transaction commits, so it only needs to be truncated up front if the standard strategy was used before.
+     */
+    private void persistItemsPipelined(Collection<?> items, Connection connection) throws Exception {
+        if (tempTableDirty) {
+            cleanupTempTable(connection);
+            markTempTableClean();
+        }
+
+        super.persistItems(items, connection);
+        upsert(connection, pipelinedUpsertSql);
+    }
+
     private void cleanupTempTable(Connection connection) throws SQLException {
         try (var preparedStatement = connection.prepareStatement(tempTableCleanupSql)) {
             preparedStatement.execute();
@@ -74,11 +103,25 @@ public class BatchUpserter extends BatchInserter {
         log.trace("Cleaned temp table {}", tableName);
     }
 
-    private void upsert(Connection connection) throws SQLException {
+    private void markTempTableClean() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The truncate is undone if the transaction rolls back
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tempTableDirty = false;
+                }
+            });
+        } else {
+            tempTableDirty = false;
+        }
+    }
+
+    private void upsert(Connection connection, String sql) throws SQLException {
         var startTime = System.nanoTime();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(upsertSql)) {
-            preparedStatement.execute();
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
             log.debug("Upserted data from table {} to table {}", tableName, finalTableName);
         } finally {
             upsertMetric.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
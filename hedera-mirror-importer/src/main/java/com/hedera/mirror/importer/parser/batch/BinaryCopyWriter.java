@@ -0,0 +1,435 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.google.common.base.CaseFormat;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.converter.ListToStringSerializer;
+import com.hedera.mirror.common.converter.ObjectToStringSerializer;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes domain objects in the PostgreSQL binary COPY format. Field encoders are generated once per table from the
+ * Jackson schema used by the CSV writer and the column types reported by the database, so values are written directly
+ * to the copy stream without any intermediate text representation.
+ */
+final class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0, // signature
+        0, 0, 0, 0, // flags
+        0, 0, 0, 0 // header extension length
+    };
+    private static final int NULL_LENGTH = -1;
+    private static final short TRAILER = -1;
+
+    private static final String COLUMN_TYPE_SQL =
+            """
+            select a.attname, t.typname, t.typtype, t.typcategory, t.typelem, e.typname as elemname
+            from pg_attribute a
+            join pg_type t on t.oid = a.atttypid
+            left join pg_type e on e.oid = t.typelem
+            where a.attrelid = ?::regclass and a.attnum > 0 and not a.attisdropped
+            """;
+
+    // Range flags from PostgreSQL's rangetypes.h
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    private static final short NUMERIC_NEG = 0x4000;
+    private static final short NUMERIC_POS = 0x0000;
+    private static final BigInteger NUMERIC_BASE = BigInteger.valueOf(10000);
+
+    private static final Map<String, Encoder> SCALAR_ENCODERS = ImmutableMap.<String, Encoder>builder()
+            .put("bool", BinaryCopyWriter::encodeBoolean)
+            .put("bpchar", BinaryCopyWriter::encodeText)
+            .put("bytea", BinaryCopyWriter::encodeBytes)
+            .put("float4", BinaryCopyWriter::encodeFloat)
+            .put("float8", BinaryCopyWriter::encodeDouble)
+            .put("int2", BinaryCopyWriter::encodeShort)
+            .put("int4", BinaryCopyWriter::encodeInt)
+            .put("int8", BinaryCopyWriter::encodeLong)
+            .put("json", BinaryCopyWriter::encodeText)
+            .put("jsonb", BinaryCopyWriter::encodeJsonb)
+            .put("name", BinaryCopyWriter::encodeText)
+            .put("numeric", BinaryCopyWriter::encodeNumeric)
+            .put("text", BinaryCopyWriter::encodeText)
+            .put("varchar", BinaryCopyWriter::encodeText)
+            .build();
+
+    private static final Map<String, String> RANGE_SUBTYPES =
+            Map.of("int4range", "int4", "int8range", "int8", "numrange", "numeric");
+
+    private static final Map<Enum<?>, Object> ENUM_VALUES = new ConcurrentHashMap<>();
+
+    private final List<Column> columns;
+    private final ObjectMapper mapper;
+
+    private BinaryCopyWriter(List<Column> columns, ObjectMapper mapper) {
+        this.columns = columns;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Generates the field encoders for a table.
+     *
+     * @param connection  the connection used to look up the column types of the table
+     * @param tableName   the table to copy into
+     * @param mapper      the Jackson mapper used to introspect the entity class
+     * @param entityClass the entity class
+     * @param properties  the Jackson property names of the columns, in copy order
+     * @return the binary copy writer
+     * @throws SQLException                  if the column types could not be queried
+     * @throws UnsupportedOperationException if any column can't be encoded in the binary format
+     */
+    static BinaryCopyWriter create(
+            Connection connection,
+            String tableName,
+            ObjectMapper mapper,
+            Class<?> entityClass,
+            List<String> properties)
+            throws SQLException {
+        var beanProperties = mapper
+                .getSerializationConfig()
+                .introspect(mapper.constructType(entityClass))
+                .findProperties()
+                .stream()
+                .collect(Collectors.toMap(BeanPropertyDefinition::getName, Function.identity(), (a, b) -> a));
+        var columnTypes = getColumnTypes(connection, tableName);
+        var columns = new ArrayList<Column>(properties.size());
+
+        for (var property : properties) {
+            var beanProperty = beanProperties.get(property);
+            var columnName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, property);
+            var columnType = columnTypes.get(columnName);
+
+            if (beanProperty == null || beanProperty.getAccessor() == null || columnType == null) {
+                throw new UnsupportedOperationException("Unable to map property " + property + " of " + tableName);
+            }
+
+            var accessor = beanProperty.getAccessor();
+            accessor.fixAccess(true);
+            columns.add(new Column(columnName, accessor, isJson(accessor), encoder(columnType, tableName)));
+        }
+
+        return new BinaryCopyWriter(List.copyOf(columns), mapper);
+    }
+
+    void write(Collection<?> items, OutputStream outputStream) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        var scratch = new Scratch();
+        out.write(HEADER);
+
+        for (var item : items) {
+            out.writeShort(columns.size());
+
+            for (var column : columns) {
+                var value = column.getValue(item, mapper);
+                if (value == null) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    column.encoder().encode(value, out, scratch);
+                }
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    private static Map<String, ColumnType> getColumnTypes(Connection connection, String tableName)
+            throws SQLException {
+        var columnTypes = new HashMap<String, ColumnType>();
+
+        try (var statement = connection.prepareStatement(COLUMN_TYPE_SQL)) {
+            statement.setString(1, tableName);
+
+            try (var resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    var columnType = new ColumnType(
+                            resultSet.getString("typname"),
+                            resultSet.getString("typtype"),
+                            resultSet.getString("typcategory"),
+                            (int) resultSet.getLong("typelem"),
+                            resultSet.getString("elemname"));
+                    columnTypes.put(resultSet.getString("attname"), columnType);
+                }
+            }
+        }
+
+        return columnTypes;
+    }
+
+    private static Encoder encoder(ColumnType columnType, String tableName) {
+        var typeName = columnType.name();
+        var scalarEncoder = SCALAR_ENCODERS.get(typeName);
+
+        if (scalarEncoder != null) {
+            return scalarEncoder;
+        } else if ("e".equals(columnType.type())) {
+            return BinaryCopyWriter::encodeText;
+        } else if (RANGE_SUBTYPES.containsKey(typeName)) {
+            return rangeEncoder(SCALAR_ENCODERS.get(RANGE_SUBTYPES.get(typeName)));
+        } else if ("A".equals(columnType.category()) && SCALAR_ENCODERS.containsKey(columnType.elementName())) {
+            return arrayEncoder(columnType.elementOid(), SCALAR_ENCODERS.get(columnType.elementName()));
+        }
+
+        throw new UnsupportedOperationException(
+                "Unsupported column type " + typeName + " in table " + tableName + " for binary copy");
+    }
+
+    private static boolean isJson(AnnotatedMember accessor) {
+        var jsonSerialize = accessor.getAnnotation(JsonSerialize.class);
+        if (jsonSerialize == null || jsonSerialize.using() == ListToStringSerializer.class) {
+            return false; // Lists are written with the array encoder of their column
+        } else if (jsonSerialize.using() == ObjectToStringSerializer.class) {
+            return true;
+        }
+
+        throw new UnsupportedOperationException("Unsupported serializer " + jsonSerialize.using().getName());
+    }
+
+    private static void encodeBoolean(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        out.writeInt(1);
+        out.writeByte(Boolean.TRUE.equals(value) ? 1 : 0);
+    }
+
+    private static void encodeBytes(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        if (!(value instanceof byte[] bytes)) {
+            throw new IllegalArgumentException("Unable to encode " + value.getClass() + " as bytea");
+        }
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void encodeDouble(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        out.writeInt(Double.BYTES);
+        out.writeDouble(toNumber(value).doubleValue());
+    }
+
+    private static void encodeFloat(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        out.writeInt(Float.BYTES);
+        out.writeFloat(toNumber(value).floatValue());
+    }
+
+    private static void encodeShort(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        out.writeInt(Short.BYTES);
+        out.writeShort(toNumber(value).shortValue());
+    }
+
+    private static void encodeInt(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        out.writeInt(Integer.BYTES);
+        out.writeInt(toNumber(value).intValue());
+    }
+
+    private static void encodeLong(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(toNumber(value).longValue());
+    }
+
+    private static void encodeJsonb(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length + 1);
+        out.writeByte(1); // jsonb binary format version
+        out.write(bytes);
+    }
+
+    private static void encodeText(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Encodes a number in the PostgreSQL numeric binary format: ndigits, weight, sign and display scale followed by the
+     * base 10000 digits.
+     */
+    private static void encodeNumeric(Object value, DataOutputStream out, Scratch scratch) throws IOException {
+        var number = toNumber(value);
+        var decimal = number instanceof BigDecimal d ? d : new BigDecimal(number.toString());
+        int dscale = Math.max(decimal.scale(), 0);
+        short sign = decimal.signum() < 0 ? NUMERIC_NEG : NUMERIC_POS;
+
+        // Align the scale to a multiple of 4 decimal digits so the unscaled value splits into base 10000 digits
+        int alignedScale = (dscale + 3) / 4 * 4;
+        var unscaled = decimal.abs().setScale(alignedScale).unscaledValue();
+        var digits = new ArrayList<Short>();
+        while (unscaled.signum() > 0) {
+            var divRem = unscaled.divideAndRemainder(NUMERIC_BASE);
+            digits.add(divRem[1].shortValue());
+            unscaled = divRem[0];
+        }
+
+        int weight = digits.size() - alignedScale / 4 - 1;
+        int leastSignificant = 0;
+        while (leastSignificant < digits.size() && digits.get(leastSignificant) == 0) {
+            leastSignificant++;
+        }
+
+        int ndigits = digits.size() - leastSignificant;
+        out.writeInt(8 + ndigits * 2);
+        out.writeShort(ndigits);
+        out.writeShort(ndigits == 0 ? 0 : weight);
+        out.writeShort(sign);
+        out.writeShort(dscale);
+        for (int i = digits.size() - 1; i >= leastSignificant; i--) {
+            out.writeShort(digits.get(i));
+        }
+    }
+
+    private static Encoder arrayEncoder(int elementOid, Encoder elementEncoder) {
+        return (value, out, scratch) -> {
+            var elements = toList(value);
+            var buffer = scratch.reset();
+            boolean hasNull = elements.contains(null);
+
+            buffer.writeInt(elements.isEmpty() ? 0 : 1);
+            buffer.writeInt(hasNull ? 1 : 0);
+            buffer.writeInt(elementOid);
+            if (!elements.isEmpty()) {
+                buffer.writeInt(elements.size());
+                buffer.writeInt(1); // lower bound
+            }
+
+            for (var element : elements) {
+                if (element == null) {
+                    buffer.writeInt(NULL_LENGTH);
+                } else {
+                    elementEncoder.encode(element, buffer, scratch);
+                }
+            }
+
+            scratch.writeTo(out);
+        };
+    }
+
+    private static Encoder rangeEncoder(Encoder boundEncoder) {
+        return (value, out, scratch) -> {
+            if (!(value instanceof Range<?> range)) {
+                throw new IllegalArgumentException("Unable to encode " + value.getClass() + " as range");
+            }
+
+            var buffer = scratch.reset();
+            if (range.isEmpty()) {
+                buffer.writeByte(RANGE_EMPTY);
+                scratch.writeTo(out);
+                return;
+            }
+
+            int flags = 0;
+            flags |= range.hasLowerBound()
+                    ? (range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0)
+                    : RANGE_LB_INF;
+            flags |= range.hasUpperBound()
+                    ? (range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0)
+                    : RANGE_UB_INF;
+            buffer.writeByte(flags);
+
+            if (range.hasLowerBound()) {
+                boundEncoder.encode(range.lowerEndpoint(), buffer, scratch);
+            }
+
+            if (range.hasUpperBound()) {
+                boundEncoder.encode(range.upperEndpoint(), buffer, scratch);
+            }
+
+            scratch.writeTo(out);
+        };
+    }
+
+    private static Number toNumber(Object value) {
+        return switch (value) {
+            case Number number -> number;
+            case EntityId entityId -> entityId.getId();
+            case String text -> new BigDecimal(text);
+            default -> throw new IllegalArgumentException("Unable to encode " + value.getClass() + " as a number");
+        };
+    }
+
+    private static List<?> toList(Object value) {
+        return switch (value) {
+            case List<?> list -> list;
+            case Object[] array -> Arrays.asList(array);
+            case long[] array -> Arrays.stream(array).boxed().toList();
+            case int[] array -> Arrays.stream(array).boxed().toList();
+            default -> throw new IllegalArgumentException("Unable to encode " + value.getClass() + " as an array");
+        };
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(Object value, DataOutputStream out, Scratch scratch) throws IOException;
+    }
+
+    private record ColumnType(String name, String type, String category, int elementOid, String elementName) {}
+
+    private record Column(String name, AnnotatedMember accessor, boolean json, Encoder encoder) {
+
+        Object getValue(Object item, ObjectMapper mapper) throws IOException {
+            var value = accessor.getValue(item);
+
+            if (value == null) {
+                return null;
+            } else if (json) {
+                return ObjectToStringSerializer.OBJECT_MAPPER.writeValueAsString(value);
+            } else if (value instanceof EntityId entityId) {
+                return EntityId.isEmpty(entityId) ? null : entityId;
+            } else if (value instanceof Enum<?> e) {
+                // Use the same value Jackson would write, honoring @JsonValue
+                return ENUM_VALUES.computeIfAbsent(e, k -> {
+                    var node = mapper.valueToTree(k);
+                    return node.isNumber() ? node.numberValue() : node.asText();
+                });
+            }
+
+            return value;
+        }
+    }
+
+    /**
+     * A reusable buffer for variable length values like arrays and ranges whose length must be written before them.
+     */
+    private static final class Scratch {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        DataOutputStream reset() {
+            bytes.reset();
+            return out;
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeInt(bytes.size());
+            bytes.writeTo(target);
+        }
+    }
+}
@@ -136,6 +136,33 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    /**
+     * Flushes a batch of record files previously parsed by {@link #prepare(List)} into the parser context bound to the
+     * current thread.
+     *
+     * @param recordFile the last record file in the batch
+     */
+    @Leader
+    @Retryable(
+            backoff =
+                    @Backoff(
+                            delayExpression = "#{@recordParserProperties.getRetry().getMinBackoff().toMillis()}",
+                            maxDelayExpression = "#{@recordParserProperties.getRetry().getMaxBackoff().toMillis()}",
+                            multiplierExpression = "#{@recordParserProperties.getRetry().getMultiplier()}"),
+            retryFor = Throwable.class,
+            noRetryFor = OutOfMemoryError.class,
+            maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
+    @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
+    public void flush(RecordFile recordFile) {
+        flushPrepared(recordFile);
+    }
+
+    @Leader
+    @Override
+    public RecordFile prepare(List<RecordFile> recordFiles) {
+        return super.prepare(recordFiles);
+    }
+
     @Override
     protected void doFlush(RecordFile streamFile) {
         super.doFlush(streamFile);
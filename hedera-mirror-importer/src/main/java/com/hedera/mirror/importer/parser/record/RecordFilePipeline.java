@@ -0,0 +1,153 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.ParserProperties;
+import com.hedera.mirror.importer.parser.StreamFileParser;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.CustomLog;
+
+/**
+ * A two stage pipeline that parses the next batch of record files into a fresh parser state while the previous batch is
+ * being flushed and committed on a separate thread. At most one batch is flushed at a time, so parsing blocks once it
+ * gets a batch ahead.
+ * <p>
+ * Parsing a batch before the previous one is committed is only correct if parsing doesn't access the database, since it
+ * wouldn't see the previous batch and its writes wouldn't be part of its own batch's transaction. So connections can't
+ * be acquired while preparing a batch ahead of time. If parsing needs one, the prepared state is discarded and the
+ * batch is parsed and flushed the regular way once the previous batch is committed.
+ */
+@CustomLog
+@Named
+public class RecordFilePipeline implements StreamFileParser<RecordFile> {
+
+    private static final ThreadLocal<AtomicBoolean> PREPARING = new ThreadLocal<>();
+
+    private final ExecutorService executor;
+    private final ParserContext parserContext;
+    private final RecordFileParser recordFileParser;
+    private final RecordParserProperties properties;
+
+    // Only accessed by the single thread calling parse
+    private CompletableFuture<Void> flushing = CompletableFuture.completedFuture(null);
+
+    public RecordFilePipeline(
+            ParserContext parserContext, RecordFileParser recordFileParser, RecordParserProperties properties) {
+        this.executor = Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("record-flush").daemon().factory());
+        this.parserContext = parserContext;
+        this.recordFileParser = recordFileParser;
+        this.properties = properties;
+    }
+
+    /**
+     * Called before a database connection is acquired to prevent it while the current thread is preparing a batch.
+     *
+     * @throws SQLException if the current thread is preparing a batch
+     */
+    static void checkConnection() throws SQLException {
+        var aborted = PREPARING.get();
+        if (aborted != null) {
+            aborted.set(true);
+            throw new SQLException("Database access is not allowed while preparing record files");
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.close();
+    }
+
+    @Override
+    public ParserProperties getProperties() {
+        return recordFileParser.getProperties();
+    }
+
+    @Override
+    public void parse(RecordFile recordFile) {
+        if (!properties.isPipelined()) {
+            awaitFlush();
+            recordFileParser.parse(recordFile);
+            return;
+        }
+
+        parse(List.of(recordFile));
+    }
+
+    @Override
+    public void parse(List<RecordFile> recordFiles) {
+        if (!properties.isPipelined()) {
+            awaitFlush();
+            recordFileParser.parse(recordFiles);
+            return;
+        }
+
+        var aborted = new AtomicBoolean(false);
+        var state = parserContext.bind();
+        RecordFile prepared = null;
+        PREPARING.set(aborted);
+
+        try {
+            prepared = recordFileParser.prepare(recordFiles);
+        } catch (Exception e) {
+            if (aborted.getAndSet(true)) {
+                log.debug("Unable to prepare {} record files without database access", recordFiles.size());
+            } else {
+                log.warn(
+                        "Unable to prepare {} record files ahead of the previous batch: {}",
+                        recordFiles.size(),
+                        e.getMessage());
+            }
+        } finally {
+            PREPARING.remove();
+            parserContext.unbind();
+        }
+
+        awaitFlush();
+
+        if (aborted.get()) {
+            log.debug("Parsing {} record files after the previous batch was flushed", recordFiles.size());
+            // Discard the state collected by the partial parse, such as the contract log index, before parsing again
+            recordFiles.forEach(recordFile -> recordFile.getItems().forEach(RecordItem::reset));
+            recordFileParser.parse(recordFiles);
+        } else if (prepared != null) {
+            var recordFile = prepared;
+            flushing = CompletableFuture.runAsync(() -> flush(state, recordFile), executor);
+        }
+    }
+
+    private void awaitFlush() {
+        try {
+            flushing.join();
+        } catch (CompletionException e) {
+            // The current batch was prepared on top of the failed one, so reload the last record file from the database
+            recordFileParser.clear();
+            var cause = e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof ParserException pe ? pe : new ParserException(cause);
+        } finally {
+            flushing = CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void flush(ParserContext.State state, RecordFile recordFile) {
+        parserContext.bind(state);
+
+        try {
+            recordFileParser.flush(recordFile);
+        } finally {
+            parserContext.unbind();
+        }
+    }
+}
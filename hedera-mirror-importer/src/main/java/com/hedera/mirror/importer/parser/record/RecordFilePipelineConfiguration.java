@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+@ConditionalOnProperty(name = "hedera.mirror.importer.parser.record.pipelined", havingValue = "true")
+@Configuration
+class RecordFilePipelineConfiguration {
+
+    /**
+     * Wraps the data source so that {@link RecordFilePipeline} can detect database access while preparing a batch.
+     */
+    @Bean
+    static BeanPostProcessor recordFilePipelineDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof GuardedDataSource)) {
+                    return new GuardedDataSource(dataSource);
+                }
+
+                return bean;
+            }
+        };
+    }
+
+    private static class GuardedDataSource extends DelegatingDataSource {
+
+        private GuardedDataSource(DataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            RecordFilePipeline.checkConnection();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            RecordFilePipeline.checkConnection();
+            return super.getConnection(username, password);
+        }
+    }
+}
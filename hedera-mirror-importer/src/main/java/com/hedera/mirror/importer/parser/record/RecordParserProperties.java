@@ -15,6 +15,8 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    private boolean pipelined = false;
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
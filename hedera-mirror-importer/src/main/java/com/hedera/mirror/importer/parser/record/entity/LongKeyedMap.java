@@ -0,0 +1,175 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+
+/**
+ * An open addressing hash map whose keys consist of one to three primitive longs. The keys are stored inline in a long
+ * array, so unlike a HashMap with boxed or composite keys there is no node or key object retained per entry. Not thread
+ * safe.
+ *
+ * @param <T> the value type
+ */
+final class LongKeyedMap<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int width;
+    private long[] keys;
+    private int mask;
+    private int size;
+    private Object[] values;
+
+    LongKeyedMap(int width) {
+        if (width < 1 || width > 3) {
+            throw new IllegalArgumentException("Unsupported key width " + width);
+        }
+
+        this.width = width;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    T get(long key0, long key1, long key2) {
+        int slot = find(key0, key1, key2);
+        return slot >= 0 ? value(slot) : null;
+    }
+
+    /**
+     * Same semantics as {@link java.util.Map#merge(Object, Object, java.util.function.BiFunction)}.
+     */
+    T merge(long key0, long key1, long key2, T value, BinaryOperator<T> mergeFunction) {
+        int slot = find(key0, key1, key2);
+
+        if (slot >= 0) {
+            var merged = mergeFunction.apply(value(slot), value);
+            if (merged == null) {
+                remove(slot);
+            } else {
+                values[slot] = merged;
+            }
+            return merged;
+        }
+
+        if ((size + 1) * 2 > values.length) {
+            resize();
+            slot = find(key0, key1, key2);
+        }
+
+        insert(-slot - 1, key0, key1, key2, value);
+        return value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * width];
+        mask = capacity - 1;
+        values = new Object[capacity];
+    }
+
+    /**
+     * Returns the slot of the key if present, otherwise -(insertion slot) - 1.
+     */
+    private int find(long key0, long key1, long key2) {
+        for (int slot = hash(key0, key1, key2) & mask; ; slot = (slot + 1) & mask) {
+            if (values[slot] == null) {
+                return -slot - 1;
+            }
+
+            int index = slot * width;
+            if (keys[index] == key0
+                    && (width < 2 || keys[index + 1] == key1)
+                    && (width < 3 || keys[index + 2] == key2)) {
+                return slot;
+            }
+        }
+    }
+
+    private int hash(long key0, long key1, long key2) {
+        long hash = key0 * 0x9E3779B97F4A7C15L;
+        if (width > 1) {
+            hash = (hash ^ key1) * 0x9E3779B97F4A7C15L;
+        }
+        if (width > 2) {
+            hash = (hash ^ key2) * 0x9E3779B97F4A7C15L;
+        }
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private int hashAt(int slot) {
+        int index = slot * width;
+        return hash(keys[index], key(index, 1), key(index, 2));
+    }
+
+    private long key(int index, int component) {
+        return component < width ? keys[index + component] : 0L;
+    }
+
+    private void insert(int slot, long key0, long key1, long key2, Object value) {
+        int index = slot * width;
+        keys[index] = key0;
+        if (width > 1) {
+            keys[index + 1] = key1;
+        }
+        if (width > 2) {
+            keys[index + 2] = key2;
+        }
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Removes the entry in the slot by shifting back subsequent entries in the same probe sequence so no tombstones
+     * are needed.
+     */
+    private void remove(int slot) {
+        int gap = slot;
+
+        for (int i = (slot + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int ideal = hashAt(i) & mask;
+            boolean movable = gap <= i ? (ideal <= gap || ideal > i) : (ideal <= gap && ideal > i);
+
+            if (movable) {
+                System.arraycopy(keys, i * width, keys, gap * width, width);
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        values[gap] = null;
+        size--;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(oldValues.length * 2);
+        size = 0;
+
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            if (oldValues[slot] != null) {
+                int index = slot * width;
+                long key0 = oldKeys[index];
+                long key1 = width > 1 ? oldKeys[index + 1] : 0L;
+                long key2 = width > 2 ? oldKeys[index + 2] : 0L;
+                insert(-find(key0, key1, key2) - 1, key0, key1, key2, oldValues[slot]);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T value(int slot) {
+        return (T) values[slot];
+    }
+}
@@ -2,6 +2,11 @@
 
 package com.hedera.mirror.importer.parser.record.entity;
 
+import com.hedera.mirror.common.domain.entity.AbstractCryptoAllowance;
+import com.hedera.mirror.common.domain.entity.AbstractNftAllowance;
+import com.hedera.mirror.common.domain.entity.AbstractTokenAllowance;
+import com.hedera.mirror.common.domain.token.AbstractNft;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
 import jakarta.inject.Named;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -9,19 +14,52 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import lombok.Getter;
 import lombok.NonNull;
 
 /**
- * Stores the domain objects parsed from the stream files before persisting to the database.
+ * Stores the domain objects parsed from the stream files before persisting to the database. The merge state of domain
+ * classes keyed by a Long or by a composite id of up to three longs is kept in a {@link LongKeyedMap} to avoid
+ * retaining a map node and key object per entry for large batches.
  */
 @Named
 public class ParserContext {
 
-    private final Map<Class<?>, DomainContext<?>> state = new ConcurrentSkipListMap<>(new DomainClassComparator());
+    private final ThreadLocal<State> bound = new ThreadLocal<>();
+    private final State shared = new State();
+
+    /**
+     * Binds a new empty state to the current thread so that domain objects can be parsed into it independently of the
+     * state seen by other threads.
+     *
+     * @return the new state
+     */
+    public State bind() {
+        var state = new State();
+        bind(state);
+        return state;
+    }
+
+    /**
+     * Binds the state to the current thread, typically to flush a state previously parsed by another thread.
+     *
+     * @param state to bind
+     */
+    public void bind(@NonNull State state) {
+        bound.set(state);
+    }
+
+    /**
+     * Unbinds the state from the current thread, reverting it to the state shared by all unbound threads.
+     */
+    public void unbind() {
+        bound.remove();
+    }
 
     public <T> void add(@NonNull T object) {
         var domainContext = getDomainContext(object);
@@ -37,16 +75,38 @@ public class ParserContext {
     }
 
     public void clear() {
-        state.clear();
+        var state = getState();
+        state.index.clear();
+        state.domains.clear();
     }
 
     public void forEach(@NonNull Consumer<Collection<?>> sink) {
-        state.forEach((c, v) -> sink.accept(v.getInserts()));
+        getState().domains.forEach((c, v) -> sink.accept(v.getInserts()));
+    }
+
+    public void forEach(@NonNull BiConsumer<Class<?>, Collection<?>> sink) {
+        getState().domains.forEach((c, v) -> sink.accept(c, v.getInserts()));
+    }
+
+    /**
+     * Whether the domain class has to be persisted in a specific order relative to other domain classes, as opposed to
+     * being independent of them.
+     *
+     * @param domainClass the domain class
+     * @return true if the domain class has a persistence order dependency
+     */
+    public boolean hasOrderDependency(@NonNull Class<?> domainClass) {
+        return DomainClassComparator.ORDER.contains(domainClass);
     }
 
     public <T> T get(@NonNull Class<T> domainClass, @NonNull Object key) {
         var domainContext = getDomainContext(domainClass);
-        return domainContext.getState().get(key);
+        return domainContext.get(key);
+    }
+
+    public <T> T get(@NonNull Class<T> domainClass, long key) {
+        var domainContext = getDomainContext(domainClass);
+        return domainContext.getLongState(1).get(key, 0L, 0L);
     }
 
     public <T> Collection<T> get(@NonNull Class<T> domainClass) {
@@ -56,7 +116,16 @@ public class ParserContext {
 
     public <T> void merge(@NonNull Object key, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
         var domainContext = getDomainContext(value);
-        var merged = domainContext.getState().merge(key, value, mergeFunction);
+        var merged = domainContext.merge(key, value, mergeFunction);
+
+        if (merged == value) {
+            domainContext.getInserts().add(value);
+        }
+    }
+
+    public <T> void merge(long key, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
+        var domainContext = getDomainContext(value);
+        var merged = domainContext.getLongState(1).merge(key, 0L, 0L, value, mergeFunction);
 
         if (merged == value) {
             domainContext.getInserts().add(value);
@@ -76,10 +145,35 @@ public class ParserContext {
 
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(Class<T> domainClass) {
-        return (DomainContext<T>) state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+        var state = getState();
+        var domainContext = state.index.get(domainClass);
+        if (domainContext == null) {
+            domainContext = state.domains.computeIfAbsent(domainClass, c -> new DomainContext<>());
+            state.index.put(domainClass, domainContext);
+        }
+        return (DomainContext<T>) domainContext;
+    }
+
+    private State getState() {
+        var state = bound.get();
+        return state != null ? state : shared;
     }
 
-    private class DomainContext<T> {
+    /**
+     * The domain objects of one or more stream files that are persisted together.
+     */
+    public static final class State {
+
+        private final Map<Class<?>, DomainContext<?>> domains =
+                new ConcurrentSkipListMap<>(new DomainClassComparator());
+
+        // Unordered index of the ordered domains to avoid comparator based lookups on every add
+        private final Map<Class<?>, DomainContext<?>> index = new ConcurrentHashMap<>();
+
+        private State() {}
+    }
+
+    private static class DomainContext<T> {
 
         @Getter
         private final List<T> inserts = new ArrayList<>();
@@ -87,9 +181,52 @@ public class ParserContext {
         @Getter(lazy = true)
         private final Map<Object, T> state = new HashMap<>();
 
+        private LongKeyedMap<T> longState;
+
         void clear() {
             getInserts().clear();
             getState().clear();
+            if (longState != null) {
+                longState.clear();
+            }
+        }
+
+        T get(Object key) {
+            return switch (key) {
+                case Long id -> getLongState(1).get(id, 0L, 0L);
+                case AbstractCryptoAllowance.Id id -> getLongState(2).get(id.getOwner(), id.getSpender(), 0L);
+                case AbstractNft.Id id -> getLongState(2).get(id.getTokenId(), id.getSerialNumber(), 0L);
+                case AbstractNftAllowance.Id id ->
+                    getLongState(3).get(id.getOwner(), id.getSpender(), id.getTokenId());
+                case AbstractTokenAccount.Id id -> getLongState(2).get(id.getAccountId(), id.getTokenId(), 0L);
+                case AbstractTokenAllowance.Id id ->
+                    getLongState(3).get(id.getOwner(), id.getSpender(), id.getTokenId());
+                default -> getState().get(key);
+            };
+        }
+
+        T merge(Object key, T value, BinaryOperator<T> mergeFunction) {
+            return switch (key) {
+                case Long id -> getLongState(1).merge(id, 0L, 0L, value, mergeFunction);
+                case AbstractCryptoAllowance.Id id ->
+                    getLongState(2).merge(id.getOwner(), id.getSpender(), 0L, value, mergeFunction);
+                case AbstractNft.Id id ->
+                    getLongState(2).merge(id.getTokenId(), id.getSerialNumber(), 0L, value, mergeFunction);
+                case AbstractNftAllowance.Id id ->
+                    getLongState(3).merge(id.getOwner(), id.getSpender(), id.getTokenId(), value, mergeFunction);
+                case AbstractTokenAccount.Id id ->
+                    getLongState(2).merge(id.getAccountId(), id.getTokenId(), 0L, value, mergeFunction);
+                case AbstractTokenAllowance.Id id ->
+                    getLongState(3).merge(id.getOwner(), id.getSpender(), id.getTokenId(), value, mergeFunction);
+                default -> getState().merge(key, value, mergeFunction);
+            };
+        }
+
+        LongKeyedMap<T> getLongState(int width) {
+            if (longState == null) {
+                longState = new LongKeyedMap<>(width);
+            }
+            return longState;
         }
     }
 }
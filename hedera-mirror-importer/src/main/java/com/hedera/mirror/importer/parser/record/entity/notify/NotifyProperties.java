@@ -4,6 +4,7 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherProperties;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -14,7 +15,12 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class NotifyProperties implements BatchPublisherProperties {
 
+    private boolean async = false;
+
     private boolean enabled = false;
 
     private int maxJsonPayloadSize = 8000;
+
+    @Min(1)
+    private int queueCapacity = 8;
 }
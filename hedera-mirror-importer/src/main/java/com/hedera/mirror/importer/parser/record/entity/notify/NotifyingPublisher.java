@@ -5,6 +5,7 @@ package com.hedera.mirror.importer.parser.record.entity.notify;
 import static com.hedera.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
@@ -14,12 +15,28 @@ import com.hedera.mirror.importer.util.Utility;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import lombok.CustomLog;
+import lombok.SneakyThrows;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Publishes topic messages to the topic_message channel with PostgreSQL NOTIFY. By default, every message is sent as
+ * its own JSON notification inside the parser's transaction. In async mode, the messages are queued after the
+ * transaction commits and a separate thread coalesces the messages of each topic into JSON arrays that fit in a
+ * notification.
+ */
 @ConditionOnEntityRecordParser
 @CustomLog
 @Named
@@ -32,6 +49,7 @@ public class NotifyingPublisher implements BatchPublisher {
     private final JdbcTemplate jdbcTemplate;
     private final ParserContext parserContext;
     private final Timer timer;
+    private final BlockingQueue<Collection<TopicMessage>> topicMessagesQueue;
 
     NotifyingPublisher(
             NotifyProperties notifyProperties,
@@ -42,6 +60,18 @@ public class NotifyingPublisher implements BatchPublisher {
         this.jdbcTemplate = jdbcTemplate;
         this.parserContext = parserContext;
         this.timer = PUBLISH_TIMER.tag("type", "notify").register(meterRegistry);
+        this.topicMessagesQueue = new ArrayBlockingQueue<>(notifyProperties.getQueueCapacity());
+
+        Executor executor = Executors.newSingleThreadExecutor();
+        executor.execute(() -> {
+            try {
+                while (true) {
+                    publish(topicMessagesQueue.take());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
     }
 
     @Override
@@ -55,24 +85,116 @@ public class NotifyingPublisher implements BatchPublisher {
             return;
         }
 
+        if (notifyProperties.isAsync()) {
+            // Copy since the parser context is cleared before the messages are published
+            publishAfterCommit(new ArrayList<>(topicMessages));
+            return;
+        }
+
         var stopwatch = Stopwatch.createStarted();
-        timer.record(() -> jdbcTemplate.execute(SQL, callback(topicMessages)));
+        timer.record(() -> jdbcTemplate.execute(SQL, callback(toJson(topicMessages))));
         log.info("Finished notifying {} messages in {}", topicMessages.size(), stopwatch);
     }
 
-    private PreparedStatementCallback<int[]> callback(Collection<TopicMessage> topicMessages) {
-        return preparedStatement -> {
-            for (TopicMessage topicMessage : topicMessages) {
-                String json = toJson(topicMessage);
-                if (json != null) {
-                    preparedStatement.setString(1, json);
-                    preparedStatement.addBatch();
+    private void publishAfterCommit(Collection<TopicMessage> topicMessages) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(topicMessages);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(topicMessages);
+            }
+        });
+    }
+
+    @SneakyThrows
+    private void enqueue(Collection<TopicMessage> topicMessages) {
+        if (!topicMessagesQueue.offer(topicMessages)) {
+            log.warn("topicMessagesQueue is full, will block until space is available");
+            topicMessagesQueue.put(topicMessages);
+        }
+    }
+
+    private void publish(Collection<TopicMessage> topicMessages) {
+        try {
+            var stopwatch = Stopwatch.createStarted();
+            var payloads = coalesce(topicMessages);
+            timer.record(() -> jdbcTemplate.execute(SQL, callback(payloads)));
+            log.info(
+                    "Finished notifying {} messages in {} notifications in {}",
+                    topicMessages.size(),
+                    payloads.size(),
+                    stopwatch);
+        } catch (Exception e) {
+            log.error("Unable to notify topic messages", e);
+        }
+    }
+
+    /*
+     * Joins the JSON of consecutive messages of the same topic into JSON arrays no larger than the max payload size. A
+     * message that doesn't fit in an array on its own is sent as a JSON object.
+     */
+    private List<String> coalesce(Collection<TopicMessage> topicMessages) {
+        var topics = new LinkedHashMap<EntityId, List<String>>();
+        for (var topicMessage : topicMessages) {
+            var json = toJson(topicMessage);
+            if (json != null) {
+                topics.computeIfAbsent(topicMessage.getTopicId(), k -> new ArrayList<>())
+                        .add(json);
+            }
+        }
+
+        int maxSize = notifyProperties.getMaxJsonPayloadSize();
+        var payloads = new ArrayList<String>();
+        var payload = new StringBuilder();
+
+        for (var messages : topics.values()) {
+            for (var json : messages) {
+                if (!payload.isEmpty() && payload.length() + json.length() + 2 >= maxSize) {
+                    payloads.add(payload.append(']').toString());
+                    payload.setLength(0);
+                }
+
+                if (payload.isEmpty() && json.length() + 2 >= maxSize) {
+                    payloads.add(json);
+                } else {
+                    payload.append(payload.isEmpty() ? '[' : ',').append(json);
                 }
             }
+
+            if (!payload.isEmpty()) {
+                payloads.add(payload.append(']').toString());
+                payload.setLength(0);
+            }
+        }
+
+        return payloads;
+    }
+
+    private PreparedStatementCallback<int[]> callback(Collection<String> payloads) {
+        return preparedStatement -> {
+            for (String payload : payloads) {
+                preparedStatement.setString(1, payload);
+                preparedStatement.addBatch();
+            }
             return preparedStatement.executeBatch();
         };
     }
 
+    private List<String> toJson(Collection<TopicMessage> topicMessages) {
+        var payloads = new ArrayList<String>(topicMessages.size());
+        for (TopicMessage topicMessage : topicMessages) {
+            String json = toJson(topicMessage);
+            if (json != null) {
+                payloads.add(json);
+            }
+        }
+        return payloads;
+    }
+
     private String toJson(TopicMessage topicMessage) {
         try {
             String json = OBJECT_MAPPER.writeValueAsString(topicMessage);
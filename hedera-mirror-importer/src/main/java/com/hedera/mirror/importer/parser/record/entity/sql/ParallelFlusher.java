@@ -0,0 +1,279 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.domain.transaction.TransactionHash;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.SneakyThrows;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists the tables of a batch concurrently over several connections while keeping the batch atomic. Domain classes
+ * with a persistence order dependency, the record file and the transaction hash are persisted in order on the parser's
+ * own connection. The remaining independent tables are distributed over additional connections whose transactions are
+ * prepared with two-phase commit.
+ * <p>
+ * The record file is the single commit decision. The prepared transactions are committed after the parser transaction
+ * commits and rolled back if it rolls back. A prepared transaction left behind by a crash or a failure to complete it is
+ * committed if the record file with the consensus end encoded in its global transaction identifier exists and rolled
+ * back otherwise. This recovery runs before the first flush and before the flush following a failure. Until the
+ * prepared transactions are committed, the record file is visible without the rows of the batch written by them.
+ * <p>
+ * This requires the PostgreSQL max_prepared_transactions setting, which defaults to zero, to be at least the
+ * parallelism minus one. The first flush fails if it's lower.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+class ParallelFlusher {
+
+    static final String GID_PREFIX = "mirror_importer_flush_";
+
+    private static final String COMMIT_PREPARED = "commit prepared '%s'";
+    private static final String PENDING_SQL =
+            "select gid from pg_prepared_xacts where database = current_database() and gid like '" + GID_PREFIX + "%'";
+    private static final String MAX_PREPARED_TRANSACTIONS_SQL =
+            "select current_setting('max_prepared_transactions')::int";
+    private static final Set<Class<?>> PARENT_CLASSES = Set.of(RecordFile.class, TransactionHash.class);
+    private static final String PREPARE = "prepare transaction '%s'";
+    private static final String RECORD_FILE_EXISTS_SQL =
+            "select exists(select 1 from record_file where consensus_end = ?)";
+    private static final String ROLLBACK_PREPARED = "rollback prepared '%s'";
+
+    private final BatchPersister batchPersister;
+    private final DataSource dataSource;
+    private final AtomicBoolean recoveryNeeded = new AtomicBoolean(true);
+    private final Scheduler scheduler;
+    private final SqlProperties sqlProperties;
+
+    ParallelFlusher(BatchPersister batchPersister, DataSource dataSource, SqlProperties sqlProperties) {
+        this.batchPersister = batchPersister;
+        this.dataSource = dataSource;
+        this.scheduler = Schedulers.newParallel("sql-flush", Math.max(sqlProperties.getParallelism() - 1, 1));
+        this.sqlProperties = sqlProperties;
+    }
+
+    @PreDestroy
+    void destroy() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Persists all the inserts in the parser context.
+     *
+     * @param context    the parser context
+     * @param recordFile the last record file in the batch, used to identify the prepared transactions
+     */
+    void flush(ParserContext context, RecordFile recordFile) {
+        if (recoveryNeeded.getAndSet(false)) {
+            try {
+                recover();
+            } catch (RuntimeException e) {
+                recoveryNeeded.set(true);
+                throw e;
+            }
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var ordered = new ArrayList<Collection<?>>();
+        var independent = new ArrayList<Collection<?>>();
+
+        context.forEach((domainClass, items) -> {
+            if (items.isEmpty()) {
+                return;
+            }
+
+            if (context.hasOrderDependency(domainClass) || PARENT_CLASSES.contains(domainClass)) {
+                ordered.add(items);
+            } else {
+                independent.add(items);
+            }
+        });
+
+        // Start with the largest tables so the work is spread evenly
+        independent.sort((left, right) -> Integer.compare(right.size(), left.size()));
+        var queue = new ConcurrentLinkedQueue<Collection<?>>(independent);
+        var prepared = new ConcurrentLinkedQueue<String>();
+        int workers = Math.min(sqlProperties.getParallelism() - 1, independent.size());
+        var futures = new ArrayList<CompletableFuture<Void>>(workers);
+
+        for (int i = 0; i < workers; i++) {
+            var gid = GID_PREFIX + recordFile.getConsensusEnd() + "_" + i;
+            futures.add(Mono.<Void>fromRunnable(() -> persist(queue, gid, prepared))
+                    .subscribeOn(scheduler)
+                    .toFuture());
+        }
+
+        var all = CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+
+        try {
+            ordered.forEach(batchPersister::persist);
+
+            // Help drain the remaining independent tables on the parser connection
+            for (var items = queue.poll(); items != null; items = queue.poll()) {
+                batchPersister.persist(items);
+            }
+
+            all.join();
+        } catch (Exception e) {
+            // Wait for all workers to finish before rolling back what they've prepared
+            all.handle((v, t) -> null).join();
+            complete(List.copyOf(prepared), false);
+            var cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw cause instanceof ParserException pe ? pe : new ParserException(cause);
+        }
+
+        var gids = List.copyOf(prepared);
+        log.info(
+                "Flushed {} tables with {} prepared transactions in {}",
+                ordered.size() + independent.size(),
+                gids.size(),
+                stopwatch);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    complete(gids, status == STATUS_COMMITTED);
+                }
+            });
+        } else {
+            complete(gids, true);
+        }
+    }
+
+    @SneakyThrows
+    private void persist(Queue<Collection<?>> queue, String gid, Collection<String> prepared) {
+        var items = queue.poll();
+        if (items == null) {
+            return;
+        }
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+
+            try {
+                for (; items != null; items = queue.poll()) {
+                    batchPersister.persist(items);
+                }
+
+                execute(connection, PREPARE.formatted(gid));
+                prepared.add(gid);
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                TransactionSynchronizationManager.unbindResource(dataSource);
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void complete(Collection<String> gids, boolean commit) {
+        if (gids.isEmpty()) {
+            return;
+        }
+
+        var sql = commit ? COMMIT_PREPARED : ROLLBACK_PREPARED;
+
+        try (var connection = dataSource.getConnection()) {
+            for (var gid : gids) {
+                try {
+                    execute(connection, sql.formatted(gid));
+                } catch (SQLException e) {
+                    // Resolved by recover() before the next flush
+                    recoveryNeeded.set(true);
+                    log.error("Unable to {} prepared transaction {}", commit ? "commit" : "rollback", gid, e);
+                }
+            }
+        } catch (SQLException e) {
+            recoveryNeeded.set(true);
+            log.error("Unable to {} prepared transactions {}", commit ? "commit" : "rollback", gids, e);
+        }
+    }
+
+    /**
+     * Verifies the database allows enough prepared transactions and resolves those left behind by a crash or a failure
+     * in a previous flush.
+     */
+    void recover() {
+        try (var connection = dataSource.getConnection()) {
+            int required = sqlProperties.getParallelism() - 1;
+            int maxPreparedTransactions = getMaxPreparedTransactions(connection);
+            if (maxPreparedTransactions < required) {
+                throw new ParserException(String.format(
+                        "PostgreSQL max_prepared_transactions is %d but must be at least %d for a parallelism of %d",
+                        maxPreparedTransactions,
+                        required,
+                        sqlProperties.getParallelism()));
+            }
+
+            var gids = new ArrayList<String>();
+            try (var statement = connection.createStatement();
+                    var resultSet = statement.executeQuery(PENDING_SQL)) {
+                while (resultSet.next()) {
+                    gids.add(resultSet.getString(1));
+                }
+            }
+
+            for (var gid : gids) {
+                boolean commit = recordFileExists(connection, gid);
+                log.warn("Recovering prepared transaction {} with {}", gid, commit ? "commit" : "rollback");
+                execute(connection, (commit ? COMMIT_PREPARED : ROLLBACK_PREPARED).formatted(gid));
+            }
+        } catch (SQLException e) {
+            throw new ParserException("Unable to recover prepared transactions", e);
+        }
+    }
+
+    private int getMaxPreparedTransactions(Connection connection) throws SQLException {
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery(MAX_PREPARED_TRANSACTIONS_SQL)) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+
+    private boolean recordFileExists(Connection connection, String gid) throws SQLException {
+        var suffix = gid.substring(GID_PREFIX.length());
+        long consensusEnd = Long.parseLong(suffix.substring(0, suffix.indexOf('_')));
+
+        try (var statement = connection.prepareStatement(RECORD_FILE_EXISTS_SQL)) {
+            statement.setLong(1, consensusEnd);
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
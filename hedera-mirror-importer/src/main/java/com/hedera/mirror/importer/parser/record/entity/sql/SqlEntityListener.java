@@ -52,6 +52,7 @@ import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordPa
 import com.hedera.mirror.importer.parser.record.entity.EntityListener;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker;
 import com.hedera.mirror.importer.repository.NftRepository;
 import com.hedera.mirror.importer.repository.TokenAccountRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -75,10 +76,12 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
     private final BatchPersister batchPersister;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
     private final NftRepository nftRepository;
+    private final ParallelFlusher parallelFlusher;
     private final TokenAccountRepository tokenAccountRepository;
     private final SqlProperties sqlProperties;
 
@@ -89,7 +92,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onEnd(RecordFile recordFile) {
-        flush();
+        flush(recordFile);
     }
 
     @Override
@@ -133,6 +136,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             state.setCreatedTimestamp(contractStateChange.getConsensusTimestamp());
             state.setModifiedTimestamp(contractStateChange.getConsensusTimestamp());
             state.setSlot(contractStateChange.getSlot());
+            state.setTimestampLower(contractStateChange.getConsensusTimestamp());
             state.setValue(value);
             context.merge(state.getId(), state, this::mergeContractState);
         }
@@ -360,10 +364,18 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         context.add(transactionSignature);
     }
 
-    private void flush() {
+    private void flush(RecordFile recordFile) {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+            balanceChangeTracker.onFlush(
+                    context.get(RecordFile.class), context.get(Entity.class), context.get(TokenAccount.class));
+
+            if (sqlProperties.getParallelism() > 1) {
+                parallelFlusher.flush(context, recordFile);
+            } else {
+                context.forEach(batchPersister::persist);
+            }
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -374,6 +386,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private void flushNftState() {
         try {
+            balanceChangeTracker.addTokenAccounts(
+                    context.get(TokenAccount.class).stream().map(TokenAccount::getId).toList());
+
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
             NFT_FLUSH.forEach(c -> {
                 var data = context.get(c);
@@ -387,15 +402,28 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
+    private static Id tokenAccountId(long accountId, long tokenId) {
+        var id = new Id();
+        id.setAccountId(accountId);
+        id.setTokenId(tokenId);
+        return id;
+    }
+
     private CustomFee mergeCustomFee(CustomFee previous, CustomFee current) {
         previous.setTimestampUpper(current.getTimestampLower());
         return current;
     }
 
     private ContractState mergeContractState(ContractState previous, ContractState current) {
-        previous.setValue(current.getValue());
-        previous.setModifiedTimestamp(current.getModifiedTimestamp());
-        return previous;
+        if (previous.getModifiedTimestamp() == current.getModifiedTimestamp()) {
+            previous.setValue(current.getValue());
+            return previous;
+        }
+
+        // Close the previous value so it's persisted to the history table
+        previous.setTimestampUpper(current.getTimestampLower());
+        current.setCreatedTimestamp(previous.getCreatedTimestamp());
+        return current;
     }
 
     @SuppressWarnings("java:S3776")
@@ -831,12 +859,13 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             long tokenId = nftTransfer.getTokenId().getId();
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
+                long newTreasury = nftTransfer.getReceiverAccountId().getId();
+                long previousTreasury = nftTransfer.getSenderAccountId().getId();
                 flushNftState();
+                balanceChangeTracker.addTokenAccounts(
+                        List.of(tokenAccountId(newTreasury, tokenId), tokenAccountId(previousTreasury, tokenId)));
                 nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
-                        nftTransfer.getReceiverAccountId().getId(),
-                        nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                        transaction.getConsensusTimestamp(), newTreasury, previousTreasury, tokenId);
                 return;
             }
 
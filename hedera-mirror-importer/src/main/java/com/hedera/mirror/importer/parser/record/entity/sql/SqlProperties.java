@@ -3,6 +3,7 @@
 package com.hedera.mirror.importer.parser.record.entity.sql;
 
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -14,4 +15,7 @@ import org.springframework.validation.annotation.Validated;
 public class SqlProperties {
 
     private boolean enabled = true;
+
+    @Min(1)
+    private int parallelism = 1;
 }
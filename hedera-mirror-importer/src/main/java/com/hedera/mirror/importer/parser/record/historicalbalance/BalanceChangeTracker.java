@@ -0,0 +1,186 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Tracks the accounts and token accounts flushed by each batch of record files, so a historical balance snapshot can
+ * query only the balances that possibly changed since the previous snapshot instead of scanning every entity and token
+ * account. The tracked ids are a superset of the changed balances, since the snapshot still filters on the balance
+ * timestamp.
+ * <p>
+ * Changes can only be used for a snapshot if every batch since the previous snapshot was tracked by this process. This
+ * is verified by the hash chain of the tracked record files, which breaks on a restart or if another importer instance
+ * parsed some of the record files.
+ * <p>
+ * The tracked changes are bounded by the configured maximum. If snapshots fall too far behind, the tracked changes are
+ * discarded and the next snapshot falls back to the deduplicating query.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class BalanceChangeTracker {
+
+    private final HistoricalBalanceProperties properties;
+
+    // Batches keyed by the consensus end of their last record file
+    private final TreeMap<Long, Batch> batches = new TreeMap<>();
+    private final Set<AbstractTokenAccount.Id> pendingTokenAccountIds = new HashSet<>();
+
+    private String sinceHash;
+    private Long sinceTimestamp;
+    private long size;
+
+    public boolean isEnabled() {
+        return properties.isEnabled() && properties.isIncremental();
+    }
+
+    /**
+     * Tracks token accounts whose balances are written while parsing a batch, before it is flushed.
+     *
+     * @param tokenAccountIds the token account ids
+     */
+    public synchronized void addTokenAccounts(Collection<AbstractTokenAccount.Id> tokenAccountIds) {
+        if (isEnabled()) {
+            pendingTokenAccountIds.addAll(tokenAccountIds);
+        }
+    }
+
+    /**
+     * Tracks the accounts and token accounts flushed for a batch of record files. If the batch is rolled back, its
+     * changes are discarded.
+     *
+     * @param recordFiles   the record files in the batch, in consensus order
+     * @param entities      the entities flushed
+     * @param tokenAccounts the token accounts flushed
+     */
+    public synchronized void onFlush(
+            List<RecordFile> recordFiles, Collection<Entity> entities, Collection<TokenAccount> tokenAccounts) {
+        if (!isEnabled() || recordFiles.isEmpty()) {
+            return;
+        }
+
+        var batch = new Batch(recordFiles.getFirst().getPreviousHash(), recordFiles.getLast().getHash());
+        batch.tokenAccountIds.addAll(pendingTokenAccountIds);
+        pendingTokenAccountIds.clear();
+        entities.forEach(e -> batch.accountIds.add(e.getId()));
+        tokenAccounts.forEach(t -> batch.tokenAccountIds.add(t.getId()));
+
+        long consensusEnd = recordFiles.getLast().getConsensusEnd();
+        batches.put(consensusEnd, batch);
+        size += batch.size();
+
+        if (size > properties.getIncrementalMaxChanges()) {
+            log.warn(
+                    "Discarding {} tracked balance changes since {} after exceeding the maximum of {}",
+                    size,
+                    sinceTimestamp,
+                    properties.getIncrementalMaxChanges());
+            batches.clear();
+            sinceHash = null;
+            size = 0;
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        remove(consensusEnd, batch);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Gets the balance changes after the previous snapshot up to and including the current snapshot timestamp.
+     *
+     * @param previousTimestamp the timestamp of the previous snapshot
+     * @param timestamp         the timestamp of the current snapshot
+     * @return the changes, or empty if not every batch in the range was tracked
+     */
+    public synchronized Optional<BalanceChanges> getChanges(long previousTimestamp, long timestamp) {
+        if (!isEnabled() || sinceHash == null || !Objects.equals(sinceTimestamp, previousTimestamp)) {
+            return Optional.empty();
+        }
+
+        var range = batches.subMap(previousTimestamp, false, timestamp, true);
+        if (range.isEmpty() || range.lastKey() != timestamp) {
+            return Optional.empty();
+        }
+
+        var hash = sinceHash;
+        var changes = new BalanceChanges(new HashSet<>(), new HashSet<>());
+
+        for (var batch : range.values()) {
+            if (!Objects.equals(hash, batch.previousHash)) {
+                log.info("Unable to use tracked balance changes due to an untracked record file after {}", hash);
+                return Optional.empty();
+            }
+
+            changes.accountIds().addAll(batch.accountIds);
+            changes.tokenAccountIds().addAll(batch.tokenAccountIds);
+            hash = batch.hash;
+        }
+
+        return Optional.of(changes);
+    }
+
+    /**
+     * Discards the changes up to and including the timestamp of a snapshot that has been committed. The changes after
+     * it are kept for the next snapshot.
+     *
+     * @param timestamp the timestamp of the snapshot
+     */
+    public synchronized void reset(long timestamp) {
+        var last = batches.get(timestamp);
+        var head = batches.headMap(timestamp, true);
+        head.values().forEach(batch -> size -= batch.size());
+        head.clear();
+        sinceHash = last != null ? last.hash : null;
+        sinceTimestamp = timestamp;
+    }
+
+    private synchronized void remove(long consensusEnd, Batch batch) {
+        if (batches.remove(consensusEnd, batch)) {
+            size -= batch.size();
+        }
+    }
+
+    public record BalanceChanges(Set<Long> accountIds, Set<AbstractTokenAccount.Id> tokenAccountIds) {}
+
+    private static class Batch {
+
+        private final Set<Long> accountIds = new HashSet<>();
+        private final String hash;
+        private final String previousHash;
+        private final Set<AbstractTokenAccount.Id> tokenAccountIds = new HashSet<>();
+
+        private Batch(String previousHash, String hash) {
+            this.hash = hash;
+            this.previousHash = previousHash;
+        }
+
+        private int size() {
+            return accountIds.size() + tokenAccountIds.size();
+        }
+    }
+}
@@ -4,6 +4,7 @@ package com.hedera.mirror.importer.parser.record.historicalbalance;
 
 import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -31,6 +32,19 @@ public class HistoricalBalanceProperties {
     @NotNull
     private Duration initialDelay = Duration.ofMinutes(2);
 
+    /**
+     * Whether to snapshot only the balances of the accounts and token accounts changed since the previous snapshot, as
+     * tracked in memory while parsing, instead of scanning the entity and token_account tables.
+     */
+    private boolean incremental = false;
+
+    /**
+     * The maximum number of account and token account ids tracked in memory for an incremental snapshot. Once exceeded,
+     * the tracked changes are discarded and the next snapshot deduplicates against the previous one instead.
+     */
+    @Min(1)
+    private int incrementalMaxChanges = 1_000_000;
+
     /**
      * The minimum frequency between balance snapshots. The max value is 7 days, acts as the maximum interval between
      * two consecutive balance snapshots, so queries which use, e.g., 30 days timestamp range as an optimization will
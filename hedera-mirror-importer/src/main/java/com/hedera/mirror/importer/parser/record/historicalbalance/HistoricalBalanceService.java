@@ -16,6 +16,7 @@ import com.hedera.mirror.importer.exception.InvalidDatasetException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.record.RecordFileParsedEvent;
 import com.hedera.mirror.importer.parser.record.RecordFileParser;
+import com.hedera.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker.BalanceChanges;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.AccountBalanceRepository;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
@@ -28,6 +29,7 @@ import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.CustomLog;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -43,9 +45,29 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class HistoricalBalanceService {
 
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final String INCREMENTAL_ACCOUNT_BALANCE_SQL =
+            """
+            insert into account_balance (account_id, balance, consensus_timestamp)
+            select id, balance, ?
+            from entity
+            where id = 2 or (id = any(?) and balance is not null and balance_timestamp > ?)
+            order by id
+            """;
+    private static final String INCREMENTAL_TOKEN_BALANCE_SQL =
+            """
+            insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+            select ta.account_id, ta.balance, ?, ta.token_id
+            from token_account ta
+            join unnest(?::bigint[], ?::bigint[]) as changed (account_id, token_id)
+              on ta.account_id = changed.account_id and ta.token_id = changed.token_id
+            where ta.balance_timestamp > ?
+            order by ta.account_id, ta.token_id
+            """;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceChangeTracker balanceChangeTracker;
+    private final JdbcTemplate jdbcTemplate;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -61,6 +83,8 @@ public class HistoricalBalanceService {
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceChangeTracker balanceChangeTracker,
+            JdbcTemplate jdbcTemplate,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -69,6 +93,8 @@ public class HistoricalBalanceService {
             TokenBalanceRepository tokenBalanceRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.balanceChangeTracker = balanceChangeTracker;
+        this.jdbcTemplate = jdbcTemplate;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.timePartitionService = timePartitionService;
@@ -109,7 +135,7 @@ public class HistoricalBalanceService {
             }
 
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
-            transactionTemplate.executeWithoutResult(t -> {
+            var snapshotTimestamp = transactionTemplate.execute(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
                         .findLatest()
@@ -118,16 +144,29 @@ public class HistoricalBalanceService {
                         .orElseThrow(() -> new ParserException("Record file table is empty"));
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
+                var changes = maxConsensusTimestamp.flatMap(
+                        previousTimestamp -> balanceChangeTracker.getChanges(previousTimestamp, timestamp));
                 boolean full = maxConsensusTimestamp.isEmpty();
                 int accountBalancesCount;
                 int tokenBalancesCount;
+                String type;
                 if (full) {
                     // get a full snapshot
+                    type = "full";
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp);
                     tokenBalancesCount =
                             properties.isTokenBalances() ? tokenBalanceRepository.balanceSnapshot(timestamp) : 0;
+                } else if (changes.isPresent()) {
+                    // get a snapshot of only the balances changed since the last snapshot
+                    type = "incremental";
+                    accountBalancesCount =
+                            snapshotAccountBalances(changes.get(), maxConsensusTimestamp.get(), timestamp);
+                    tokenBalancesCount = properties.isTokenBalances()
+                            ? snapshotTokenBalances(changes.get(), maxConsensusTimestamp.get(), timestamp)
+                            : 0;
                 } else {
                     // get a snapshot that has no duplicates
+                    type = "deduped";
                     accountBalancesCount =
                             accountBalanceRepository.balanceSnapshotDeduplicate(maxConsensusTimestamp.get(), timestamp);
                     tokenBalancesCount = properties.isTokenBalances()
@@ -151,13 +190,18 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        type,
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
+                return timestamp;
             });
 
+            if (snapshotTimestamp != null) {
+                balanceChangeTracker.reset(snapshotTimestamp);
+            }
+
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -184,6 +228,33 @@ public class HistoricalBalanceService {
                 partitionRange.lowerEndpoint(), partitionRange.upperEndpoint());
     }
 
+    private int snapshotAccountBalances(BalanceChanges changes, long maxConsensusTimestamp, long timestamp) {
+        var accountIds = changes.accountIds().toArray(Long[]::new);
+        return jdbcTemplate.update(INCREMENTAL_ACCOUNT_BALANCE_SQL, ps -> {
+            ps.setLong(1, timestamp);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", accountIds));
+            ps.setLong(3, maxConsensusTimestamp);
+        });
+    }
+
+    private int snapshotTokenBalances(BalanceChanges changes, long maxConsensusTimestamp, long timestamp) {
+        var tokenAccountIds = changes.tokenAccountIds();
+        var accountIds = new Long[tokenAccountIds.size()];
+        var tokenIds = new Long[tokenAccountIds.size()];
+        int index = 0;
+        for (var id : tokenAccountIds) {
+            accountIds[index] = id.getAccountId();
+            tokenIds[index++] = id.getTokenId();
+        }
+
+        return jdbcTemplate.update(INCREMENTAL_TOKEN_BALANCE_SQL, ps -> {
+            ps.setLong(1, timestamp);
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", accountIds));
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", tokenIds));
+            ps.setLong(4, maxConsensusTimestamp);
+        });
+    }
+
     private boolean shouldGenerate(long consensusEnd) {
         return properties.isEnabled()
                 && accountBalanceFileRepository
@@ -14,6 +14,7 @@ import com.hedera.services.stream.proto.AllAccountBalances;
 import com.hedera.services.stream.proto.SingleAccountBalances;
 import jakarta.inject.Named;
 import java.io.IOException;
+import java.security.DigestInputStream;
 import java.util.List;
 import lombok.CustomLog;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -32,9 +33,9 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
 
     @Override
     public AccountBalanceFile read(StreamFileData streamFileData) {
-        try {
-            var bytes = streamFileData.getDecompressedBytes();
-            var allAccountBalances = AllAccountBalances.parseFrom(bytes);
+        var messageDigest = DigestUtils.getSha384Digest();
+        try (var inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest)) {
+            var allAccountBalances = AllAccountBalances.parseFrom(inputStream);
 
             if (!allAccountBalances.hasConsensusTimestamp()) {
                 throw new InvalidStreamFileException("Missing required consensusTimestamp field");
@@ -48,7 +49,7 @@ public class ProtoBalanceFileReader implements BalanceFileReader {
             AccountBalanceFile accountBalanceFile = new AccountBalanceFile();
             accountBalanceFile.setBytes(streamFileData.getBytes());
             accountBalanceFile.setConsensusTimestamp(consensusTimestamp);
-            accountBalanceFile.setFileHash(DigestUtils.sha384Hex(bytes));
+            accountBalanceFile.setFileHash(DomainUtils.bytesToHex(messageDigest.digest()));
             accountBalanceFile.setItems(items);
             accountBalanceFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             accountBalanceFile.setName(streamFileData.getFilename());
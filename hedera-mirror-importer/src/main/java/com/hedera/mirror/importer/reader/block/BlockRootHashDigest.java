@@ -7,35 +7,59 @@ import static com.hedera.mirror.common.util.DomainUtils.createSha384Digest;
 
 import com.hedera.hapi.block.stream.protoc.BlockItem;
 import com.hedera.mirror.common.util.DomainUtils;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import lombok.Data;
 
 /**
  * Calculates a block's root hash per the algorithm defined in HIP-1056. Note both the input merkle tree and the output
- * merkle tree are padded with SHA2-384 hash of an empty bytearray to be perfect binary trees. Note none of the methods
- * are reentrant.
+ * merkle tree are padded with SHA2-384 hash of an empty bytearray to be perfect binary trees. The leaves are hashed
+ * from the block items' serialized bytes when the root hash is calculated, and for large blocks the input and output
+ * merkle trees are calculated in parallel. Note none of the methods are reentrant.
  */
 @Data
 class BlockRootHashDigest {
 
+    static final int PARALLEL_THRESHOLD = 256;
+
     private static final byte[] EMPTY_HASH = createSha384Digest().digest(new byte[0]);
 
-    private final MessageDigest digest = createSha384Digest();
     private boolean finalized;
-    private final List<byte[]> inputHashes = new ArrayList<>();
-    private final List<byte[]> outputHashes = new ArrayList<>();
+    private final List<ByteBuffer> inputBlockItems = new ArrayList<>();
+    private final List<ByteBuffer> outputBlockItems = new ArrayList<>();
     private byte[] previousHash;
     private byte[] startOfBlockStateHash;
 
     public void addInputBlockItem(BlockItem blockItem) {
-        inputHashes.add(digest.digest(blockItem.toByteArray()));
+        addInputBlockItem(ByteBuffer.wrap(blockItem.toByteArray()));
+    }
+
+    /**
+     * Adds an input block item by its serialized bytes. The buffer is hashed in place, so it must not be modified until
+     * the root hash is calculated.
+     *
+     * @param blockItem - The serialized block item
+     */
+    public void addInputBlockItem(ByteBuffer blockItem) {
+        inputBlockItems.add(blockItem);
     }
 
     public void addOutputBlockItem(BlockItem blockItem) {
-        outputHashes.add(digest.digest(blockItem.toByteArray()));
+        addOutputBlockItem(ByteBuffer.wrap(blockItem.toByteArray()));
+    }
+
+    /**
+     * Adds an output block item by its serialized bytes. The buffer is hashed in place, so it must not be modified
+     * until the root hash is calculated.
+     *
+     * @param blockItem - The serialized block item
+     */
+    public void addOutputBlockItem(ByteBuffer blockItem) {
+        outputBlockItems.add(blockItem);
     }
 
     public String digest() {
@@ -46,13 +70,18 @@ class BlockRootHashDigest {
         validateHash(previousHash, "previousHash");
         validateHash(startOfBlockStateHash, "startOfBlockStateHash");
 
+        var inputRootHash = inputBlockItems.size() + outputBlockItems.size() >= PARALLEL_THRESHOLD
+                ? CompletableFuture.supplyAsync(() -> getRootHash(inputBlockItems))
+                : CompletableFuture.completedFuture(getRootHash(inputBlockItems));
+        byte[] outputRootHash = getRootHash(outputBlockItems);
+
         List<byte[]> leaves = new ArrayList<>();
         leaves.add(previousHash);
-        leaves.add(getRootHash(inputHashes));
-        leaves.add(getRootHash(outputHashes));
+        leaves.add(inputRootHash.join());
+        leaves.add(outputRootHash);
         leaves.add(startOfBlockStateHash);
 
-        byte[] rootHash = getRootHash(leaves);
+        byte[] rootHash = getRootHash(createSha384Digest(), leaves);
         finalized = true;
 
         return DomainUtils.bytesToHex(rootHash);
@@ -68,7 +97,18 @@ class BlockRootHashDigest {
         this.startOfBlockStateHash = startOfBlockStateHash;
     }
 
-    private byte[] getRootHash(List<byte[]> leaves) {
+    private static byte[] getRootHash(List<ByteBuffer> blockItems) {
+        var digest = createSha384Digest();
+        List<byte[]> leaves = new ArrayList<>(blockItems.size());
+        for (var blockItem : blockItems) {
+            digest.update(blockItem.duplicate());
+            leaves.add(digest.digest());
+        }
+
+        return getRootHash(digest, leaves);
+    }
+
+    private static byte[] getRootHash(MessageDigest digest, List<byte[]> leaves) {
         if (leaves.isEmpty()) {
             return EMPTY_HASH;
         }
@@ -12,7 +12,9 @@ import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.STATE_CHANG
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.TRANSACTION_OUTPUT;
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.TRANSACTION_RESULT;
 
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.output.protoc.TransactionOutput;
 import com.hedera.hapi.block.stream.output.protoc.TransactionOutput.TransactionCase;
@@ -28,6 +30,8 @@ import com.hederahashgraph.api.proto.java.BlockHashAlgorithm;
 import com.hederahashgraph.api.proto.java.Transaction;
 import jakarta.inject.Named;
 import jakarta.validation.constraints.NotNull;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -46,9 +50,10 @@ public class ProtoBlockFileReader implements BlockFileReader {
     public BlockFile read(StreamFileData streamFileData) {
         String filename = streamFileData.getFilename();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var block = Block.parseFrom(inputStream);
-            var context = new ReaderContext(block.getItemsList(), filename);
+        try {
+            // The item slices reference the decompressed bytes until the root hash is calculated, so reuse the retained
+            // bytes instead of copying them from a stream
+            var context = new ReaderContext(parseBlockItems(streamFileData.getDecompressedBytes()), filename);
             var blockFileBuilder = context.getBlockFile()
                     .loadStart(streamFileData.getStreamFilename().getTimestamp())
                     .name(filename)
@@ -90,6 +95,35 @@ public class ProtoBlockFileReader implements BlockFileReader {
         }
     }
 
+    /**
+     * Parses the block items of a {@link Block} one by one, keeping the serialized bytes of each so the root hash can be
+     * calculated from them without serializing the parsed block items again.
+     *
+     * @param bytes - The serialized block
+     * @return The parsed block items with their serialized bytes
+     */
+    private static List<ParsedBlockItem> parseBlockItems(byte[] bytes) throws IOException {
+        var blockItems = new ArrayList<ParsedBlockItem>();
+        var input = CodedInputStream.newInstance(bytes);
+        int tag;
+
+        while ((tag = input.readTag()) != 0) {
+            if (WireFormat.getTagFieldNumber(tag) != Block.ITEMS_FIELD_NUMBER
+                    || WireFormat.getTagWireType(tag) != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                input.skipField(tag);
+                continue;
+            }
+
+            int length = input.readRawVarint32();
+            int offset = input.getTotalBytesRead();
+            input.skipRawBytes(length);
+            var blockItem = BlockItem.parser().parseFrom(bytes, offset, length);
+            blockItems.add(new ParsedBlockItem(blockItem, ByteBuffer.wrap(bytes, offset, length)));
+        }
+
+        return blockItems;
+    }
+
     private void readBlockHeader(ReaderContext context) {
         var blockItem = context.readBlockItemFor(BLOCK_HEADER);
         if (blockItem == null) {
@@ -216,10 +250,12 @@ public class ProtoBlockFileReader implements BlockFileReader {
         }
     }
 
+    private record ParsedBlockItem(BlockItem blockItem, ByteBuffer bytes) {}
+
     @Value
     private static class ReaderContext {
         private BlockFile.BlockFileBuilder blockFile;
-        private List<BlockItem> blockItems;
+        private List<ParsedBlockItem> blockItems;
         private BlockRootHashDigest blockRootHashDigest;
         private String filename;
 
@@ -234,7 +270,7 @@ public class ProtoBlockFileReader implements BlockFileReader {
         @Setter
         private Long lastMetaTimestamp; // The last consensus timestamp from metadata
 
-        ReaderContext(@NotNull List<BlockItem> blockItems, @NotNull String filename) {
+        ReaderContext(@NotNull List<ParsedBlockItem> blockItems, @NotNull String filename) {
             this.blockFile = BlockFile.builder();
             this.blockItems = blockItems;
             this.blockRootHashDigest = new BlockRootHashDigest();
@@ -252,16 +288,18 @@ public class ProtoBlockFileReader implements BlockFileReader {
                 return null;
             }
 
-            var blockItem = blockItems.get(index);
+            var parsedBlockItem = blockItems.get(index);
+            var blockItem = parsedBlockItem.blockItem();
             if (blockItem.getItemCase() != itemCase) {
                 return null;
             }
 
             index++;
             switch (itemCase) {
-                case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER -> blockRootHashDigest.addInputBlockItem(blockItem);
+                case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER -> blockRootHashDigest.addInputBlockItem(
+                        parsedBlockItem.bytes());
                 case BLOCK_HEADER, STATE_CHANGES, TRANSACTION_OUTPUT, TRANSACTION_RESULT -> blockRootHashDigest
-                        .addOutputBlockItem(blockItem);
+                        .addOutputBlockItem(parsedBlockItem.bytes());
                 default -> {
                     // other block items aren't considered input / output
                 }
@@ -5,6 +5,10 @@ package com.hedera.mirror.importer.reader.record;
 import static com.hedera.mirror.common.util.DomainUtils.createSha384Digest;
 import static java.lang.String.format;
 
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -15,11 +19,15 @@ import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
 import jakarta.inject.Named;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -40,8 +48,10 @@ public class ProtoRecordFileReader implements RecordFileReader {
         var filename = streamFileData.getFilename();
         var loadStart = streamFileData.getStreamFilename().getTimestamp();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        // The file hash is computed while the decompressed contents are streamed to the parser
+        try (var inputStream = new DigestInputStream(streamFileData.getInputStream(), createSha384Digest())) {
+            var rawItems = new ArrayList<ByteBuffer>();
+            var recordStreamFile = readRecordStreamFile(filename, inputStream, rawItems);
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -56,7 +66,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
             }
 
             var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
+            var items = readItems(filename, recordStreamFile, rawItems);
             int count = items.size();
             long consensusEnd = items.get(count - 1).getConsensusTimestamp();
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
@@ -72,7 +82,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(streamFileData.getDecompressedBytes()))
+                    .fileHash(DomainUtils.bytesToHex(inputStream.getMessageDigest().digest()))
                     .hapiVersionMajor(majorVersion)
                     .hapiVersionMinor(minorVersion)
                     .hapiVersionPatch(patchVersion)
@@ -116,11 +126,6 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 });
     }
 
-    private String getFileHash(byte[] fileData) {
-        var messageDigest = createSha384Digest();
-        return DomainUtils.bytesToHex(messageDigest.digest(fileData));
-    }
-
     private String getMetadataHash(RecordStreamFile recordStreamFile) throws IOException {
         try (var digestOutputStream = new DigestOutputStream(NullOutputStream.INSTANCE, createSha384Digest());
                 var dataOutputStream = new DataOutputStream(digestOutputStream)) {
@@ -157,33 +162,38 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
-        if (count == 0) {
+    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile, List<ByteBuffer> rawItems) {
+        if (rawItems.isEmpty()) {
             throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
 
         var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
         var hapiVersion =
                 new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
-        RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(hapiVersion)
-                    .previous(previousItem)
-                    .transactionRecord(recordStreamItem.getRecord())
-                    .transaction(recordStreamItem.getTransaction())
-                    .transactionIndex(items.size())
-                    .build();
-            items.add(recordItem);
-            previousItem = recordItem;
-        }
-
-        return items;
+        return RecordItemDecoder.decode(hapiVersion, rawItems, rawItem -> {
+            try {
+                var recordStreamItem = RecordStreamItem.parseFrom(rawItem.duplicate());
+                return RecordItem.builder()
+                        .transactionRecord(recordStreamItem.getRecord())
+                        .transaction(recordStreamItem.getTransaction());
+            } catch (InvalidProtocolBufferException e) {
+                throw new InvalidStreamFileException(
+                        "Failed to decode record stream item in record file " + filename, e);
+            }
+        });
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
+    /**
+     * Reads the record stream file without its record stream items, which are instead collected as raw bytes so they
+     * can be decoded in parallel.
+     *
+     * @param filename    - The record file name
+     * @param inputStream - The record file input stream
+     * @param rawItems    - The list to add the raw bytes of the record stream items to
+     * @return The record stream file without record stream items
+     */
+    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream, List<ByteBuffer> rawItems)
+            throws IOException {
         try (var dataInputStream = new DataInputStream(inputStream)) {
             int version = dataInputStream.readInt();
             if (version != VERSION) {
@@ -191,7 +201,24 @@ public class ProtoRecordFileReader implements RecordFileReader {
                         format("Expected file %s with version %d, got %d.", filename, VERSION, version));
             }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+            // Parse while the contents are streamed through the digest, copying the bytes of each item and of the other
+            // fields instead of the whole file
+            var input = CodedInputStream.newInstance(dataInputStream);
+            var fields = new ByteArrayOutputStream();
+            var output = CodedOutputStream.newInstance(fields);
+            int tag;
+
+            while ((tag = input.readTag()) != 0) {
+                if (WireFormat.getTagFieldNumber(tag) == RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER
+                        && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                    rawItems.add(input.readByteBuffer());
+                } else {
+                    input.skipField(tag, output);
+                }
+            }
+
+            output.flush();
+            return RecordStreamFile.parseFrom(fields.toByteArray());
         }
     }
 }
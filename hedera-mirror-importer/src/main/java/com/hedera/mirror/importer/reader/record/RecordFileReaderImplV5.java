@@ -5,6 +5,7 @@ package com.hedera.mirror.importer.reader.record;
 import static com.hedera.mirror.common.util.DomainUtils.createSha384Digest;
 
 import com.google.common.primitives.Longs;
+import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
@@ -23,7 +24,6 @@ import java.io.IOException;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.util.ArrayList;
-import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.commons.codec.binary.Hex;
@@ -91,36 +91,15 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         metadataDigestInputStream.on(false); // metadata hash is not calculated on record stream objects
         long hashObjectClassId = startHashObject.getClassId();
 
-        int count = 0;
-        long consensusStart = 0;
-        List<RecordItem> items = new ArrayList<>();
-        RecordItem lastRecordItem = null;
-
-        // read record stream objects
+        // read record stream objects, they are decoded after the running hash is read
+        var recordStreamObjects = new ArrayList<RecordStreamObject>();
         while (!isHashObject(vdis, hashObjectClassId)) {
-            RecordStreamObject recordStreamObject = new RecordStreamObject(vdis);
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(recordFile.getHapiVersion())
-                    .previous(lastRecordItem)
-                    .transactionRecord(TransactionRecord.parseFrom(recordStreamObject.recordBytes))
-                    .transactionIndex(count)
-                    .transaction(Transaction.parseFrom(recordStreamObject.transactionBytes))
-                    .build();
-
-            items.add(recordItem);
-
-            if (count == 0) {
-                consensusStart = recordItem.getConsensusTimestamp();
-            }
-
-            lastRecordItem = recordItem;
-            count++;
+            recordStreamObjects.add(new RecordStreamObject(vdis));
         }
 
-        if (count == 0) {
+        if (recordStreamObjects.isEmpty()) {
             throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
-        long consensusEnd = lastRecordItem.getConsensusTimestamp();
 
         // end object running hash, metadata hash is calculated on it
         metadataDigestInputStream.on(true);
@@ -130,14 +109,27 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
             throw new InvalidStreamFileException("Extra data discovered in record file " + filename);
         }
 
-        recordFile.setCount((long) count);
-        recordFile.setConsensusEnd(consensusEnd);
-        recordFile.setConsensusStart(consensusStart);
+        var items = RecordItemDecoder.decode(
+                recordFile.getHapiVersion(), recordStreamObjects, r -> decode(r, filename));
+        recordFile.setCount((long) items.size());
+        recordFile.setConsensusEnd(items.getLast().getConsensusTimestamp());
+        recordFile.setConsensusStart(items.getFirst().getConsensusTimestamp());
         recordFile.setHash(Hex.encodeHexString(endHashObject.getHash()));
         recordFile.setItems(items);
         recordFile.setPreviousHash(Hex.encodeHexString(startHashObject.getHash()));
     }
 
+    private RecordItem.RecordItemBuilder decode(RecordStreamObject recordStreamObject, String filename) {
+        try {
+            return RecordItem.builder()
+                    .transactionRecord(TransactionRecord.parseFrom(recordStreamObject.recordBytes))
+                    .transaction(Transaction.parseFrom(recordStreamObject.transactionBytes));
+        } catch (InvalidProtocolBufferException e) {
+            throw new InvalidStreamFileException(
+                    "Failed to decode record stream object in record file " + filename, e);
+        }
+    }
+
     private boolean isHashObject(DataInputStream dis, long hashObjectClassId) throws IOException {
         dis.mark(Longs.BYTES);
         long classId = dis.readLong();
@@ -0,0 +1,50 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.reader.record;
+
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.util.Version;
+
+/**
+ * Decodes the record items of a record file from their raw bytes, after the file has been split into the raw bytes of
+ * each item and its hashes calculated sequentially. Since a record item's parent and success depend on the items before
+ * it, only the protobuf decoding is done in parallel on the common fork-join pool for files with enough items. The
+ * decoded items are then linked to each other in consensus order.
+ */
+@UtilityClass
+class RecordItemDecoder {
+
+    static final int PARALLEL_THRESHOLD = 64;
+
+    /**
+     * Decodes the raw items into ordered record items
+     *
+     * @param hapiVersion - The HAPI version of the record file
+     * @param rawItems    - The raw items in consensus order
+     * @param decoder     - Decodes a raw item into a record item builder with its transaction and transaction record
+     * @return The record items in consensus order
+     */
+    static <T> List<RecordItem> decode(
+            Version hapiVersion, List<T> rawItems, Function<T, RecordItem.RecordItemBuilder> decoder) {
+        var stream = rawItems.size() >= PARALLEL_THRESHOLD ? rawItems.parallelStream() : rawItems.stream();
+        var builders = stream.map(decoder.andThen(RecordItem.RecordItemBuilder::parseTransaction))
+                .toList();
+
+        var items = new ArrayList<RecordItem>(builders.size());
+        RecordItem previousItem = null;
+        for (var builder : builders) {
+            var recordItem = builder.hapiVersion(hapiVersion)
+                    .previous(previousItem)
+                    .transactionIndex(items.size())
+                    .build();
+            items.add(recordItem);
+            previousItem = recordItem;
+        }
+
+        return items;
+    }
+}
@@ -0,0 +1,20 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.repository;
+
+import com.hedera.mirror.common.domain.contract.AbstractContractState;
+import com.hedera.mirror.common.domain.contract.ContractStateHistory;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface ContractStateHistoryRepository
+        extends CrudRepository<ContractStateHistory, AbstractContractState.Id>, RetentionRepository {
+
+    @Modifying
+    @Override
+    @Query(
+            nativeQuery = true,
+            value = "delete from contract_state_history where timestamp_range << int8range(?1, null)")
+    int prune(long consensusTimestamp);
+}
@@ -4,6 +4,7 @@ package com.hedera.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.db.TimePartitionService;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -31,6 +32,7 @@ public class RetentionJob {
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -53,6 +55,10 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(maxTimestamp);
+            }
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -63,6 +69,38 @@ public class RetentionJob {
         }
     }
 
+    /**
+     * Drops the time partitions that only contain data on or before the max timestamp. All time partitioned tables are
+     * partitioned on the same timestamp column their repository prunes by, so this is equivalent to deleting the rows.
+     * The partition containing the max timestamp is left for the row level delete.
+     */
+    private void dropPartitions(long maxTimestamp) {
+        var stopwatch = Stopwatch.createStarted();
+        int count = 0;
+
+        for (var repository : retentionRepositories) {
+            String table = getTableName(repository);
+            if (!retentionProperties.shouldPrune(table)) {
+                continue;
+            }
+
+            for (var partition : timePartitionService.getTimePartitions(table)) {
+                if (partition.getEnd() > maxTimestamp) {
+                    break;
+                }
+
+                timePartitionService.dropTimePartition(partition);
+                log.info(
+                        "Dropped partition {} with entries on or before {}",
+                        partition.getName(),
+                        toInstant(partition.getEnd()));
+                count++;
+            }
+        }
+
+        log.info("Dropped {} partitions in {}", count, stopwatch);
+    }
+
     private void prune(RecordFileIterator iterator) {
         var counters = iterator.getCounters();
         long countBefore = counters.values().stream().reduce(0L, Long::sum);
@@ -20,6 +20,9 @@ public class RetentionProperties {
     @NotNull
     private Duration batchPeriod = Duration.ofDays(1L);
 
+    // Drop time partitions that are entirely within the retention period instead of deleting their rows
+    private boolean dropPartitions = false;
+
     private boolean enabled = false;
 
     @NotNull
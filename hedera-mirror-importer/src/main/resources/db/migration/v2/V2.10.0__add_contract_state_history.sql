@@ -0,0 +1,21 @@
+-- add timestamp_range to contract_state so older values can be kept in contract_state_history
+alter table if exists contract_state
+    add column if not exists timestamp_range int8range;
+
+update contract_state set timestamp_range = int8range(modified_timestamp, null);
+
+alter table if exists contract_state
+    alter column timestamp_range set not null;
+
+create table if not exists contract_state_history
+(
+    like contract_state including defaults
+);
+comment on table contract_state_history is 'History of contract state';
+
+select create_distributed_table('contract_state_history', 'contract_id', colocate_with => 'contract_state');
+
+create index if not exists contract_state_history__contract_id_slot_lower_timestamp
+    on contract_state_history (contract_id, slot, lower(timestamp_range));
+create index if not exists contract_state_history__timestamp_range
+    on contract_state_history using gist (timestamp_range);
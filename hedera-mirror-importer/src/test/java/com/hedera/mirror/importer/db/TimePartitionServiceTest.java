@@ -80,6 +80,37 @@ class TimePartitionServiceTest extends ImporterIntegrationTest {
                 .containsExactlyElementsOf(expected);
     }
 
+    @Test
+    void dropTimePartition() {
+        ownerJdbcTemplate.execute(
+                """
+                create table audit (timestamp bigint not null) partition by range (timestamp);
+                create table audit_00 partition of audit for values from ('1000000000') to ('2000000000');
+                create table audit_01 partition of audit for values from ('2000000000') to ('3000000000');
+                insert into audit values (1000000000), (2000000000);
+                """);
+
+        try {
+            var partitions = timePartitionService.getTimePartitions("audit");
+            assertThat(partitions).hasSize(2);
+            assertThat(timePartitionService.getOverlappingTimePartitions("audit", 1L, 4000000000L))
+                    .isEqualTo(partitions);
+
+            timePartitionService.dropTimePartition(partitions.getFirst());
+
+            var remaining = List.of(partitions.get(1));
+            assertThat(timePartitionService.getTimePartitions("audit")).isEqualTo(remaining);
+            assertThat(timePartitionService.getOverlappingTimePartitions("audit", 1L, 4000000000L))
+                    .isEqualTo(remaining);
+            assertThat(ownerJdbcTemplate.queryForList("select timestamp from audit", Long.class))
+                    .containsExactly(2000000000L);
+            assertThat(ownerJdbcTemplate.queryForObject("select to_regclass('audit_00') is null", Boolean.class))
+                    .isTrue();
+        } finally {
+            ownerJdbcTemplate.execute("drop table audit cascade");
+        }
+    }
+
     @Test
     void getTimePartitions() {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
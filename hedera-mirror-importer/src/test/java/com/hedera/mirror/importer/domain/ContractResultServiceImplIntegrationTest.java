@@ -9,6 +9,7 @@ import static com.hedera.services.stream.proto.ContractAction.RecipientCase.RECI
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import com.google.common.collect.Range;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.BytesValue;
 import com.hedera.mirror.common.domain.StreamType;
@@ -875,6 +876,7 @@ class ContractResultServiceImplIntegrationTest extends ImporterIntegrationTest {
                         .createdTimestamp(c.getConsensusTimestamp())
                         .modifiedTimestamp(c.getConsensusTimestamp())
                         .slot(DomainUtils.leftPadBytes(c.getSlot(), 32))
+                        .timestampRange(Range.atLeast(c.getConsensusTimestamp()))
                         .value(c.getValueWritten())
                         .build())
                 .toList();
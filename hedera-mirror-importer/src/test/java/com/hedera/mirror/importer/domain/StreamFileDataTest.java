@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
@@ -82,6 +83,39 @@ class StreamFileDataTest {
         }
     }
 
+    @Test
+    void getInputStreamDoesNotRetainDecompressedBytes() throws IOException {
+        String filename = "2021-03-10T16_00_00Z.rcd.gz";
+        byte[] uncompressedBytes = {1, 2, 3};
+        var baos = new ByteArrayOutputStream();
+        try (OutputStream os = new GZIPOutputStream(baos)) {
+            os.write(uncompressedBytes);
+        }
+
+        StreamFileData streamFileData = StreamFileData.from(filename, baos.toByteArray());
+
+        try (InputStream is = streamFileData.getInputStream()) {
+            assertThat(is).isNotInstanceOf(ByteArrayInputStream.class);
+            assertThat(is.readAllBytes()).isEqualTo(uncompressedBytes);
+        }
+
+        byte[] decompressedBytes = streamFileData.getDecompressedBytes();
+        assertThat(decompressedBytes).isEqualTo(uncompressedBytes);
+        assertThat(streamFileData.getDecompressedBytes()).isSameAs(decompressedBytes);
+
+        try (InputStream is = streamFileData.getInputStream()) {
+            assertThat(is).isInstanceOf(ByteArrayInputStream.class);
+            assertThat(is.readAllBytes()).isEqualTo(uncompressedBytes);
+        }
+    }
+
+    @Test
+    void createWithUncompressedData() {
+        byte[] bytes = {1, 2, 3};
+        StreamFileData streamFileData = StreamFileData.from(FILENAME, bytes);
+        assertThat(streamFileData.getDecompressedBytes()).isSameAs(bytes);
+    }
+
     @Test
     void createWithCompressorAndUncompressedData() {
         String filename = "2021-03-10T16_00_00Z.rcd.gz";
@@ -74,6 +74,7 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
@@ -231,7 +232,8 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         signatureFileReader = new CompositeSignatureFileReader(
                 new SignatureFileReaderV2(), new SignatureFileReaderV5(), new ProtoSignatureFileReader());
         var consensusValidator = new ConsensusValidatorImpl(commonDownloaderProperties);
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         downloader = getDownloader();
         streamType = downloaderProperties.getStreamType();
 
@@ -285,6 +287,20 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @ParameterizedTest(name = "Download and verify files with prefetch {0}")
+    @ValueSource(ints = {1, 5})
+    void downloadWithPrefetch(int prefetch) {
+        commonDownloaderProperties.setPrefetch(prefetch);
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(importerProperties.getDataPath()).isEmptyDirectory();
+    }
+
     @Test
     @DisplayName("Non-unanimous consensus reached")
     void partialConsensus() throws IOException {
@@ -14,7 +14,9 @@ import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.importer.parser.balance.AccountBalanceFileParser;
 import com.hedera.mirror.importer.parser.balance.BalanceParserProperties;
 import com.hedera.mirror.importer.parser.record.RecordFileParser;
+import com.hedera.mirror.importer.parser.record.RecordFilePipeline;
 import com.hedera.mirror.importer.parser.record.RecordParserProperties;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import java.time.Duration;
 import java.util.List;
 import lombok.CustomLog;
@@ -40,6 +42,7 @@ class BatchStreamFileNotifierTest {
     private RecordFileParser recordFileParser;
 
     private BatchStreamFileNotifier notifier;
+    private RecordFilePipeline recordFilePipeline;
 
     @BeforeEach
     void setup() {
@@ -49,12 +52,14 @@ class BatchStreamFileNotifierTest {
         balanceParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
         recordParserProperties.setFrequency(Duration.ofMillis(1L));
         recordParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        recordFilePipeline = new RecordFilePipeline(new ParserContext(), recordFileParser, recordParserProperties);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFilePipeline);
     }
 
     @AfterEach
     void teardown() {
         notifier.close();
+        recordFilePipeline.close();
     }
 
     @Test
@@ -166,7 +171,7 @@ class BatchStreamFileNotifierTest {
         recordParserProperties.getBatch().setQueueCapacity(1);
         recordParserProperties.getBatch().setMaxFiles(1);
         notifier.close();
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFilePipeline);
         var recordFile1 = domainBuilder.recordFile().get();
         var recordFile2 = domainBuilder.recordFile().get();
         var recordFile3 = domainBuilder.recordFile().get();
@@ -15,6 +15,7 @@ import com.hedera.mirror.importer.domain.ConsensusNodeStub;
 import com.hedera.mirror.importer.domain.StreamFileSignature;
 import com.hedera.mirror.importer.domain.StreamFileSignature.SignatureType;
 import com.hedera.mirror.importer.domain.StreamFilename;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.security.KeyPair;
@@ -28,6 +29,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +43,7 @@ class NodeSignatureVerifierTest {
     private Signature signer;
 
     private CommonDownloaderProperties commonDownloaderProperties;
+    private SimpleMeterRegistry meterRegistry;
 
     @Mock
     private ConsensusValidator consensusValidator;
@@ -61,7 +65,9 @@ class NodeSignatureVerifierTest {
         commonDownloaderProperties = new CommonDownloaderProperties(new ImporterProperties());
         commonDownloaderProperties.setConsensusRatio(
                 BigDecimal.ONE.divide(BigDecimal.valueOf(3), 19, RoundingMode.DOWN));
-        nodeSignatureVerifier = new NodeSignatureVerifier(consensusValidator);
+        meterRegistry = new SimpleMeterRegistry();
+        nodeSignatureVerifier =
+                new NodeSignatureVerifier(commonDownloaderProperties, consensusValidator, meterRegistry);
         signer = Signature.getInstance("SHA384withRSA", "SunRsaSign");
         signer.initSign(privateKey);
         consensusValidator.validate(any());
@@ -174,6 +180,50 @@ class NodeSignatureVerifierTest {
                 .doesNotContain(VERIFIED);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void reusesSignatureAcrossCalls(boolean parallelVerification) {
+        commonDownloaderProperties.setParallelVerification(parallelVerification);
+        var invalid = streamFileSignature();
+        invalid.setFileHashSignature(corruptSignature(invalid.getFileHashSignature()));
+        var signatures1 = List.of(streamFileSignature(), invalid, streamFileSignature(), streamFileSignature());
+        var signatures2 = List.of(streamFileSignature(), streamFileSignature());
+
+        nodeSignatureVerifier.verify(signatures1);
+        nodeSignatureVerifier.verify(signatures2);
+
+        assertThat(signatures1)
+                .extracting(StreamFileSignature::getStatus)
+                .containsExactly(VERIFIED, DOWNLOADED, VERIFIED, VERIFIED);
+        assertThat(signatures2).extracting(StreamFileSignature::getStatus).containsOnly(VERIFIED);
+        assertThat(meterRegistry
+                        .get("hedera.mirror.importer.signature.verification")
+                        .tag("valid", "true")
+                        .timer()
+                        .count())
+                .isEqualTo(5);
+        assertThat(meterRegistry
+                        .get("hedera.mirror.importer.signature.verification")
+                        .tag("valid", "false")
+                        .timer()
+                        .count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void recoversAfterFailure() {
+        var noFileHash = streamFileSignature();
+        noFileHash.setFileHash(null);
+        var signatures = List.of(noFileHash);
+        nodeSignatureVerifier.verify(signatures);
+
+        var valid = List.of(streamFileSignature());
+        nodeSignatureVerifier.verify(valid);
+
+        assertThat(signatures).extracting(StreamFileSignature::getStatus).doesNotContain(VERIFIED);
+        assertThat(valid).extracting(StreamFileSignature::getStatus).containsExactly(VERIFIED);
+    }
+
     @SneakyThrows
     @Test
     void signedWithWrongAlgorithm() {
@@ -236,6 +236,33 @@ class BlockStreamPollerTest {
         verifyArchivedFile(blockFile(1).getName(), 2);
     }
 
+    @Test
+    void prefetch(CapturedOutput output) {
+        // given
+        properties.setPrefetch(3);
+        fileCopier.filterFiles(blockFile(0).getName()).to("0").copy();
+        fileCopier.filterFiles(blockFile(1).getName()).to("2").copy();
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .build()));
+
+        // when
+        blockStreamPoller.poll();
+
+        // then
+        verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == blockNumber(0) && b.getNodeId() == 0L));
+        verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == blockNumber(1) && b.getNodeId() == 2L));
+        verify(recordFileRepository).findLatest();
+
+        String logs = output.getAll();
+        assertThat(findAllMatches(logs, "Prefetched block file .*\\.blk\\.gz from node \\d"))
+                .containsExactly("Prefetched block file " + blockFile(1).getName() + " from node 2");
+        assertThat(countMatches(logs, "Failed to verify prefetched block file")).isZero();
+        assertThat(countMatches(logs, "Failed to download block file ")).isZero();
+    }
+
     @Test
     void genesisNotFound(CapturedOutput output) {
         // given, when
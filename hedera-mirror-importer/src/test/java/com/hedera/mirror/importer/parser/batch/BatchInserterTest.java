@@ -11,17 +11,26 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.contract.ContractResult;
+import com.hedera.mirror.common.domain.contract.ContractTransaction;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.AssessedCustomFee;
 import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.CopyFormat;
+import com.hedera.mirror.importer.repository.ContractLogRepository;
+import com.hedera.mirror.importer.repository.ContractResultRepository;
+import com.hedera.mirror.importer.repository.ContractTransactionRepository;
 import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.TokenTransferRepository;
 import com.hedera.mirror.importer.repository.TopicMessageRepository;
+import com.hedera.mirror.importer.repository.TransactionRepository;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.io.Reader;
@@ -33,16 +42,25 @@ import java.util.List;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyManager;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
 
+@ExtendWith(OutputCaptureExtension.class)
 @RequiredArgsConstructor
 class BatchInserterTest extends ImporterIntegrationTest {
 
     private final BatchPersister batchInserter;
+    private final ContractLogRepository contractLogRepository;
+    private final ContractResultRepository contractResultRepository;
+    private final ContractTransactionRepository contractTransactionRepository;
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
     private final TopicMessageRepository topicMessageRepository;
     private final TokenTransferRepository tokenTransferRepository;
+    private final TransactionRepository transactionRepository;
 
     @Test
     void persist() {
@@ -63,6 +81,54 @@ class BatchInserterTest extends ImporterIntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void persistBinary() {
+        // given
+        var properties = new CommonParserProperties();
+        properties.setCopyFormat(CopyFormat.BINARY);
+        var contractLogs = List.of(domainBuilder.contractLog().get(), domainBuilder.contractLog().get());
+        var cryptoTransfers = List.of(domainBuilder.cryptoTransfer().get(), domainBuilder.cryptoTransfer().get());
+        var topicMessages = List.of(topicMessage(6000), topicMessage(10));
+        var transactions = List.of(domainBuilder.transaction().get(), domainBuilder.transaction().get());
+
+        // when
+        binaryInserter(ContractLog.class, properties).persist(contractLogs);
+        binaryInserter(CryptoTransfer.class, properties).persist(cryptoTransfers);
+        binaryInserter(TopicMessage.class, properties).persist(topicMessages);
+        binaryInserter(Transaction.class, properties).persist(transactions);
+
+        // then
+        assertThat(contractLogRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractLogs);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(topicMessageRepository.findAll()).containsExactlyInAnyOrderElementsOf(topicMessages);
+        assertThat(transactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(transactions);
+    }
+
+    @Test
+    void persistBinaryArrays(CapturedOutput output) {
+        // given
+        var properties = new CommonParserProperties();
+        properties.setCopyFormat(CopyFormat.BINARY);
+        var assessedCustomFees = List.of(domainBuilder.assessedCustomFee().get());
+        var contractResults = List.of(domainBuilder.contractResult().get(), domainBuilder.contractResult().get());
+        var contractTransactions = List.of(domainBuilder.contractTransaction().get());
+        var assessedCustomFeeInserter = binaryInserter(AssessedCustomFee.class, properties);
+        var contractResultInserter = binaryInserter(ContractResult.class, properties);
+        var contractTransactionInserter = binaryInserter(ContractTransaction.class, properties);
+
+        // when
+        assessedCustomFeeInserter.persist(assessedCustomFees);
+        contractResultInserter.persist(contractResults);
+        contractTransactionInserter.persist(contractTransactions);
+
+        // then
+        assertThat(output).doesNotContain("Falling back to CSV copy");
+        assertThat(contractResultRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractResults);
+        assertThat(contractTransactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractTransactions);
+        assertThat(jdbcOperations.query("select * from assessed_custom_fee", rowMapper(AssessedCustomFee.class)))
+                .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
+    }
+
     @Test
     void throwsParserException() throws SQLException, IOException {
         // given
@@ -147,6 +213,10 @@ class BatchInserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
     }
 
+    private BatchInserter binaryInserter(Class<?> entityClass, CommonParserProperties properties) {
+        return new BatchInserter(entityClass, dataSource, new SimpleMeterRegistry(), properties);
+    }
+
     private TopicMessage topicMessage(int messageSize) {
         return domainBuilder
                 .topicMessage()
@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.UpsertStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionOperations;
+
+@CustomLog
+@RequiredArgsConstructor
+@Tag("performance")
+class BatchUpserterPerformanceTest extends ImporterIntegrationTest {
+
+    private static final int BATCHES = 50;
+    private static final int BATCH_SIZE = 100;
+
+    private final BatchPersister batchPersister;
+    private final CommonParserProperties commonParserProperties;
+    private final TransactionOperations transactionOperations;
+
+    @AfterEach
+    void afterEach() {
+        commonParserProperties.setUpsertStrategy(UpsertStrategy.STANDARD);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"contract_state", "entity", "token_account"})
+    void compare(String table) {
+        Supplier<Object> supplier =
+                switch (table) {
+                    case "contract_state" -> () -> domainBuilder.contractState().get();
+                    case "entity" -> () -> domainBuilder.entity().get();
+                    case "token_account" -> () -> domainBuilder.tokenAccount().get();
+                    default -> throw new IllegalArgumentException("Unsupported table " + table);
+                };
+
+        // Warm up the connection pool and the upsert query plans
+        run(UpsertStrategy.STANDARD, supplier, 5);
+        run(UpsertStrategy.PIPELINED, supplier, 5);
+
+        var standard = run(UpsertStrategy.STANDARD, supplier, BATCHES);
+        var pipelined = run(UpsertStrategy.PIPELINED, supplier, BATCHES);
+
+        log.info(
+                "Upserted {} batches of {} rows into {}: standard mean {} ms, pipelined mean {} ms",
+                BATCHES,
+                BATCH_SIZE,
+                table,
+                String.format("%.3f", standard.getMean()),
+                String.format("%.3f", pipelined.getMean()));
+        var count = jdbcOperations.queryForObject("select count(*) from " + table, Long.class);
+        assertThat(count).isEqualTo((BATCHES + 5) * 2L * BATCH_SIZE);
+    }
+
+    private SummaryStatistics run(UpsertStrategy strategy, Supplier<Object> supplier, int batches) {
+        commonParserProperties.setUpsertStrategy(strategy);
+        var stats = new SummaryStatistics();
+
+        for (int i = 0; i < batches; i++) {
+            var items = new ArrayList<>(BATCH_SIZE);
+            for (int j = 0; j < BATCH_SIZE; j++) {
+                items.add(supplier.get());
+            }
+
+            var stopwatch = Stopwatch.createStarted();
+            transactionOperations.executeWithoutResult(t -> batchPersister.persist(List.copyOf(items)));
+            stats.addValue(stopwatch.elapsed(TimeUnit.MICROSECONDS) / 1000.0);
+        }
+
+        return stats;
+    }
+}
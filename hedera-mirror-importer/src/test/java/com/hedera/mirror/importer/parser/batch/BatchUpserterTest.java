@@ -30,6 +30,8 @@ import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.token.TokenTypeEnum;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.CommonParserProperties.UpsertStrategy;
 import com.hedera.mirror.importer.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.repository.NftAllowanceRepository;
@@ -52,6 +54,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Hex;
 import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -63,6 +66,7 @@ class BatchUpserterTest extends ImporterIntegrationTest {
             .build();
 
     private final BatchPersister batchPersister;
+    private final CommonParserProperties commonParserProperties;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final EntityRepository entityRepository;
     private final NftRepository nftRepository;
@@ -78,6 +82,11 @@ class BatchUpserterTest extends ImporterIntegrationTest {
     private final TransactionRepository transactionRepository;
     private final TransactionOperations transactionOperations;
 
+    @AfterEach
+    void afterEach() {
+        commonParserProperties.setUpsertStrategy(UpsertStrategy.STANDARD);
+    }
+
     @Test
     void cryptoAllowance() {
         CryptoAllowance cryptoAllowance1 = domainBuilder.cryptoAllowance().get();
@@ -103,6 +112,28 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void entityInsertAndUpdatePipelined() {
+        // Leave rows behind in the temp table with the standard strategy
+        var entity1 = getEntity(1, 1L, 1L, "memo-1");
+        persist(batchPersister, List.of(entity1));
+
+        commonParserProperties.setUpsertStrategy(UpsertStrategy.PIPELINED);
+        var entity2 = getEntity(2, 2L, 2L, "memo-2");
+        persist(batchPersister, List.of(entity2));
+
+        var entity3 = getEntity(3, 3L, 3L, "memo-3");
+        var entity2Update = getEntity(2, null, 4L, "updated-memo-2");
+        persist(batchPersister, List.of(entity3, entity2Update));
+
+        assertThat(entityRepository.findAll())
+                .extracting(Entity::getMemo)
+                .containsExactlyInAnyOrder("memo-1", "updated-memo-2", "memo-3");
+        assertThat(findHistory(Entity.class)).extracting(Entity::getId).containsExactly(2L);
+        assertThat(jdbcOperations.queryForObject("select count(*) from entity_temp", Integer.class))
+                .isZero();
+    }
+
     @Test
     void entityInsertAndUpdate() {
         var entities = new ArrayList<Entity>();
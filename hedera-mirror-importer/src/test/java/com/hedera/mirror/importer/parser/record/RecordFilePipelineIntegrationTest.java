@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record;
+
+import static com.hedera.mirror.common.domain.token.NftTransfer.WILDCARD_SERIAL_NUMBER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractLog;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.domain.RecordFileBuilder;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder.TransferType;
+import com.hedera.mirror.importer.repository.ContractLogRepository;
+import com.hedera.mirror.importer.repository.RecordFileRepository;
+import com.hederahashgraph.api.proto.java.NftTransfer;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+@RequiredArgsConstructor
+@TestPropertySource(properties = "hedera.mirror.importer.parser.record.pipelined=true")
+class RecordFilePipelineIntegrationTest extends ImporterIntegrationTest {
+
+    private final ContractLogRepository contractLogRepository;
+    private final RecordFileBuilder recordFileBuilder;
+    private final RecordItemBuilder recordItemBuilder;
+    private final RecordFileParser recordFileParser;
+    private final RecordFilePipeline recordFilePipeline;
+    private final RecordFileRepository recordFileRepository;
+
+    @BeforeEach
+    void setup() {
+        recordFileParser.clear();
+    }
+
+    @Test
+    void parseAbortedWithSyntheticLogs() {
+        // given
+        var recordFile1 = recordFileBuilder
+                .recordFile()
+                .recordItem(TransactionType.CRYPTOTRANSFER)
+                .build();
+        // The nft treasury change requires database access, so preparing the batch is aborted after the synthetic
+        // contract log of the fungible token transfer is created
+        var treasuryChange = TokenTransferList.newBuilder()
+                .setToken(recordItemBuilder.tokenId())
+                .addNftTransfers(NftTransfer.newBuilder()
+                        .setReceiverAccountID(recordItemBuilder.accountId())
+                        .setSenderAccountID(recordItemBuilder.accountId())
+                        .setSerialNumber(WILDCARD_SERIAL_NUMBER));
+        var recordFile2 = recordFileBuilder
+                .recordFile()
+                .previous(recordFile1)
+                .recordItem(() -> recordItemBuilder
+                        .cryptoTransfer(TransferType.TOKEN)
+                        .record(r -> r.addTokenTransferLists(treasuryChange)))
+                .build();
+
+        // when
+        recordFilePipeline.parse(List.of(recordFile1));
+        recordFilePipeline.parse(List.of(recordFile2));
+
+        // then
+        assertThat(contractLogRepository.findAll())
+                .hasSize(1)
+                .extracting(ContractLog::getIndex)
+                .containsExactly(0);
+        assertThat(recordFileRepository.findAll()).hasSize(2);
+    }
+}
@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecordFilePipelineTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ParserContext parserContext = new ParserContext();
+    private final RecordParserProperties properties = new RecordParserProperties();
+
+    @Mock
+    private RecordFileParser recordFileParser;
+
+    private RecordFilePipeline recordFilePipeline;
+
+    @BeforeEach
+    void setup() {
+        properties.setPipelined(true);
+        recordFilePipeline = new RecordFilePipeline(parserContext, recordFileParser, properties);
+    }
+
+    @AfterEach
+    void teardown() {
+        recordFilePipeline.close();
+    }
+
+    @Test
+    void disabled() {
+        properties.setPipelined(false);
+        var recordFiles = List.of(domainBuilder.recordFile().get());
+        recordFilePipeline.parse(recordFiles);
+        verify(recordFileParser).parse(recordFiles);
+        verify(recordFileParser, never()).prepare(any());
+    }
+
+    @Test
+    void prepareAndFlush() {
+        var recordFile = domainBuilder.recordFile().get();
+        var recordFiles = List.of(recordFile);
+        var entity = domainBuilder.entity().get();
+        var flushed = new ArrayList<Entity>();
+
+        when(recordFileParser.prepare(recordFiles)).thenAnswer(invocation -> {
+            parserContext.add(entity);
+            return recordFile;
+        });
+        doAnswer(invocation -> flushed.addAll(parserContext.get(Entity.class)))
+                .when(recordFileParser)
+                .flush(recordFile);
+
+        recordFilePipeline.parse(recordFiles);
+
+        recordFilePipeline.close(); // Waits for the flush to complete
+        verify(recordFileParser).flush(recordFile);
+        verify(recordFileParser, never()).parse(recordFiles);
+        assertThat(flushed).containsExactly(entity);
+        assertThat(parserContext.get(Entity.class)).isEmpty();
+    }
+
+    @Test
+    void prepareNothing() {
+        var recordFiles = List.of(domainBuilder.recordFile().get());
+        recordFilePipeline.parse(recordFiles);
+        verify(recordFileParser).prepare(recordFiles);
+        verify(recordFileParser, never()).flush(any());
+    }
+
+    @Test
+    void prepareRequiresDatabase() {
+        var recordFiles = List.of(domainBuilder.recordFile().get());
+        when(recordFileParser.prepare(recordFiles)).thenAnswer(invocation -> {
+            RecordFilePipeline.checkConnection();
+            return recordFiles.getFirst();
+        });
+
+        recordFilePipeline.parse(recordFiles);
+
+        verify(recordFileParser).parse(recordFiles);
+        verify(recordFileParser, never()).flush(any());
+    }
+
+    @Test
+    void prepareRequiresDatabaseSwallowed() {
+        var recordFiles = List.of(domainBuilder.recordFile().get());
+        when(recordFileParser.prepare(recordFiles)).thenAnswer(invocation -> {
+            assertThatThrownBy(RecordFilePipeline::checkConnection).isInstanceOf(SQLException.class);
+            return recordFiles.getFirst();
+        });
+
+        recordFilePipeline.parse(recordFiles);
+
+        verify(recordFileParser).parse(recordFiles);
+        verify(recordFileParser, never()).flush(any());
+    }
+
+    @Test
+    void flushFails() {
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+        when(recordFileParser.prepare(any())).thenAnswer(invocation -> invocation.<List<RecordFile>>getArgument(0)
+                .getFirst());
+        doThrow(new ParserException("error")).when(recordFileParser).flush(recordFile1);
+
+        recordFilePipeline.parse(List.of(recordFile1));
+        verify(recordFileParser, timeout(1000L)).flush(recordFile1);
+
+        assertThatThrownBy(() -> recordFilePipeline.parse(List.of(recordFile2)))
+                .isInstanceOf(ParserException.class)
+                .hasMessage("error");
+        verify(recordFileParser).clear();
+        verify(recordFileParser, never()).flush(recordFile2);
+    }
+}
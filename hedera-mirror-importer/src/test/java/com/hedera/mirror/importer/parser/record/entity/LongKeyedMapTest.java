@@ -0,0 +1,73 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LongKeyedMapTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 4})
+    void invalidWidth(int width) {
+        assertThatThrownBy(() -> new LongKeyedMap<>(width)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void merge(int width) {
+        var map = new LongKeyedMap<String>(width);
+        assertThat(map.get(1L, 2L, 3L)).isNull();
+
+        assertThat(map.merge(1L, 2L, 3L, "a", (a, b) -> a + b)).isEqualTo("a");
+        assertThat(map.merge(1L, 2L, 3L, "b", (a, b) -> a + b)).isEqualTo("ab");
+        assertThat(map.get(1L, 2L, 3L)).isEqualTo("ab");
+        assertThat(map.size()).isOne();
+
+        map.clear();
+        assertThat(map.get(1L, 2L, 3L)).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void mergeToNull(int width) {
+        var map = new LongKeyedMap<String>(width);
+        map.merge(1L, 1L, 1L, "a", (a, b) -> b);
+        map.merge(2L, 2L, 2L, "b", (a, b) -> b);
+
+        assertThat(map.merge(1L, 1L, 1L, "c", (a, b) -> null)).isNull();
+        assertThat(map.get(1L, 1L, 1L)).isNull();
+        assertThat(map.get(2L, 2L, 2L)).isEqualTo("b");
+        assertThat(map.size()).isOne();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void matchesHashMap(int width) {
+        var map = new LongKeyedMap<Long>(width);
+        var expected = new HashMap<List<Long>, Long>();
+        var random = new Random(width);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key0 = random.nextInt(5000);
+            long key1 = width > 1 ? random.nextInt(8) : 0L;
+            long key2 = width > 2 ? random.nextInt(4) : 0L;
+            long value = random.nextInt(10);
+            // Remove on a value of zero to exercise the backward shift deletion
+            var key = List.of(key0, key1, key2);
+            var merged = map.merge(key0, key1, key2, value, (a, b) -> b == 0 ? null : a + b);
+            assertThat(merged).isEqualTo(expected.merge(key, value, (a, b) -> b == 0 ? null : a + b));
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(map.get(key.get(0), key.get(1), key.get(2)))
+                .isEqualTo(value));
+    }
+}
@@ -6,7 +6,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -54,6 +56,51 @@ class ParserContextTest {
         assertThat(parserContext.get(Entity.class, domain.getId())).isEqualTo(domain);
     }
 
+    @Test
+    void getPrimitiveKey() {
+        assertThat(parserContext.get(Entity.class, 1L)).isNull();
+
+        var domain = domainBuilder.entity().get();
+        long id = domain.getId();
+        parserContext.merge(id, domain, (a, b) -> a);
+        assertThat(parserContext.get(Entity.class, id)).isEqualTo(domain);
+        assertThat(parserContext.get(Entity.class, (Object) domain.getId())).isEqualTo(domain);
+    }
+
+    @Test
+    void getCompositeKey() {
+        var domain = domainBuilder.tokenAccount().get();
+        parserContext.merge(domain.getId(), domain, (a, b) -> a);
+        assertThat(parserContext.get(TokenAccount.class, domain.getId())).isEqualTo(domain);
+
+        var other = domain.toBuilder().tokenId(domain.getTokenId() + 1).build();
+        assertThat(parserContext.get(TokenAccount.class, other.getId())).isNull();
+    }
+
+    @Test
+    void getOtherKey() {
+        var domain = domainBuilder.contractState().get();
+        parserContext.merge(domain.getId(), domain, (a, b) -> a);
+        assertThat(parserContext.get(ContractState.class, domain.getId())).isEqualTo(domain);
+    }
+
+    @Test
+    void merge() {
+        var domain1 = domainBuilder.tokenAccount().get();
+        var domain2 = domain1.toBuilder().balance(domain1.getBalance() + 1).build();
+        parserContext.merge(domain1.getId(), domain1, (a, b) -> {
+            a.setBalance(a.getBalance() + b.getBalance());
+            return a;
+        });
+        parserContext.merge(domain2.getId(), domain2, (a, b) -> {
+            a.setBalance(a.getBalance() + b.getBalance());
+            return a;
+        });
+
+        assertThat(parserContext.get(TokenAccount.class)).containsExactly(domain1);
+        assertThat(domain1.getBalance()).isEqualTo(domain2.getBalance() * 2 - 1);
+    }
+
     @Test
     void getAll() {
         assertThat(parserContext.get(Entity.class)).isEmpty();
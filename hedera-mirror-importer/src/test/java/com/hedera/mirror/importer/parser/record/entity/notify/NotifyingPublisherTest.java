@@ -13,6 +13,7 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
 import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.postgresql.jdbc.PgConnection;
 import reactor.core.publisher.Flux;
@@ -22,6 +23,7 @@ import reactor.test.StepVerifier;
 class NotifyingPublisherTest extends BatchPublisherTest {
 
     private final DataSource dataSource;
+    private final NotifyProperties notifyProperties;
 
     public NotifyingPublisherTest(
             NotifyingPublisher entityListener,
@@ -30,6 +32,66 @@ class NotifyingPublisherTest extends BatchPublisherTest {
             DataSource dataSource) {
         super(entityListener, parserContext, properties);
         this.dataSource = dataSource;
+        this.notifyProperties = properties;
+    }
+
+    @AfterEach
+    void cleanup() {
+        notifyProperties.setAsync(false);
+        notifyProperties.setMaxJsonPayloadSize(new NotifyProperties().getMaxJsonPayloadSize());
+    }
+
+    @Test
+    void onTopicMessageAsync() {
+        // given
+        notifyProperties.setAsync(true);
+        var topicId = EntityId.of(0L, 0L, 1001L);
+        var topicMessage1 =
+                domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        var topicMessage2 =
+                domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        var topicMessage3 = domainBuilder.topicMessage().get();
+        var topicMessages = subscribe(topicId);
+        parserContext.add(topicMessage1);
+        parserContext.add(topicMessage3);
+        parserContext.add(topicMessage2);
+
+        // then
+        StepVerifier.create(topicMessages)
+                .thenAwait(Duration.ofMillis(250L))
+                .then(() -> {
+                    batchPublisher.onEnd(null);
+                    parserContext.clear();
+                })
+                .thenAwait(Duration.ofMillis(250L))
+                .expectNext(topicMessage1, topicMessage2)
+                .thenCancel()
+                .verify(Duration.ofMillis(2000));
+    }
+
+    @Test
+    void onTopicMessageAsyncSplitsPayload() throws Exception {
+        // given
+        var topicId = EntityId.of(0L, 0L, 1002L);
+        var topicMessage1 =
+                domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        var topicMessage2 =
+                domainBuilder.topicMessage().customize(t -> t.topicId(topicId)).get();
+        int size = OBJECT_MAPPER.writeValueAsString(topicMessage1).length();
+        notifyProperties.setAsync(true);
+        notifyProperties.setMaxJsonPayloadSize(size * 3 / 2);
+        var topicMessages = subscribe(topicId);
+        parserContext.add(topicMessage1);
+        parserContext.add(topicMessage2);
+
+        // then
+        StepVerifier.create(topicMessages)
+                .thenAwait(Duration.ofMillis(250L))
+                .then(() -> batchPublisher.onEnd(null))
+                .thenAwait(Duration.ofMillis(250L))
+                .expectNext(topicMessage1, topicMessage2)
+                .thenCancel()
+                .verify(Duration.ofMillis(2000));
     }
 
     @Test
@@ -81,9 +143,14 @@ class NotifyingPublisherTest extends BatchPublisherTest {
 
             if (notifications != null) {
                 for (var pgNotification : notifications) {
-                    var topicMessage = OBJECT_MAPPER.readValue(pgNotification.getParameter(), TopicMessage.class);
-                    if (topicId.equals(topicMessage.getTopicId())) {
-                        topicMessages.add(topicMessage);
+                    var payload = pgNotification.getParameter();
+                    var parsed = payload.startsWith("[")
+                            ? OBJECT_MAPPER.readValue(payload, TopicMessage[].class)
+                            : new TopicMessage[] {OBJECT_MAPPER.readValue(payload, TopicMessage.class)};
+                    for (var topicMessage : parsed) {
+                        if (topicId.equals(topicMessage.getTopicId())) {
+                            topicMessages.add(topicMessage);
+                        }
                     }
                 }
             }
@@ -0,0 +1,84 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record.entity.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import lombok.CustomLog;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the heap retained by and the merge throughput of the parser context against the boxed key HashMap it used
+ * previously, for a batch of long keyed entities and composite keyed token accounts.
+ */
+@CustomLog
+@Tag("performance")
+class ParserContextPerformanceTest {
+
+    private static final int ITERATIONS = 5;
+    private static final int SIZE = 1_000_000;
+
+    private final BinaryOperator<Object> mergeFunction = (a, b) -> a;
+
+    @Test
+    void merge() {
+        var entities = new ArrayList<Entity>(SIZE);
+        var tokenAccounts = new ArrayList<TokenAccount>(SIZE);
+
+        for (int i = 0; i < SIZE; i++) {
+            var entity = new Entity();
+            entity.setId((long) i);
+            entities.add(entity);
+
+            var tokenAccount = new TokenAccount();
+            tokenAccount.setAccountId(i);
+            tokenAccount.setTokenId(i % 100);
+            tokenAccounts.add(tokenAccount);
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            var parserContext = new ParserContext();
+            long before = usedMemory();
+            var stopwatch = Stopwatch.createStarted();
+            entities.forEach(e -> parserContext.merge(e.getId(), e, (a, b) -> a));
+            tokenAccounts.forEach(t -> parserContext.merge(t.getId(), t, (a, b) -> a));
+            var elapsed = stopwatch.elapsed();
+            long retained = usedMemory() - before;
+            assertThat(parserContext.get(TokenAccount.class)).hasSize(SIZE);
+
+            var hashMaps = List.of(new HashMap<Object, Object>(), new HashMap<Object, Object>());
+            before = usedMemory();
+            stopwatch = Stopwatch.createStarted();
+            entities.forEach(e -> hashMaps.get(0).merge(e.getId(), e, mergeFunction));
+            tokenAccounts.forEach(t -> hashMaps.get(1).merge(t.getId(), t, mergeFunction));
+            var hashMapElapsed = stopwatch.elapsed();
+            long hashMapRetained = usedMemory() - before;
+            assertThat(hashMaps).extracting(Map::size).containsOnly(SIZE);
+
+            log.info(
+                    "Merged {} entities and token accounts in {} retaining {} MiB, HashMap took {} retaining {} MiB",
+                    SIZE,
+                    elapsed,
+                    retained / 1024 / 1024,
+                    hashMapElapsed,
+                    hashMapRetained / 1024 / 1024);
+        }
+    }
+
+    // The parser context also retains its list of inserts, one reference per item, which the HashMap case doesn't
+    private long usedMemory() {
+        var runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -6,6 +6,7 @@ import static com.hedera.mirror.common.domain.entity.EntityType.ACCOUNT;
 import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
 import static com.hedera.mirror.common.util.DomainUtils.EMPTY_BYTE_ARRAY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import com.google.common.collect.Range;
@@ -17,6 +18,7 @@ import com.hedera.mirror.common.domain.contract.ContractLog;
 import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.contract.ContractStateChange;
+import com.hedera.mirror.common.domain.contract.ContractStateHistory;
 import com.hedera.mirror.common.domain.contract.ContractTransaction;
 import com.hedera.mirror.common.domain.entity.CryptoAllowance;
 import com.hedera.mirror.common.domain.entity.Entity;
@@ -40,6 +42,7 @@ import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.token.TokenTypeEnum;
 import com.hedera.mirror.common.domain.topic.Topic;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.Transaction;
 import com.hedera.mirror.common.domain.transaction.TransactionHash;
@@ -48,6 +51,7 @@ import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.TestUtils;
+import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import com.hedera.mirror.importer.repository.AssessedCustomFeeRepository;
@@ -56,6 +60,7 @@ import com.hedera.mirror.importer.repository.ContractLogRepository;
 import com.hedera.mirror.importer.repository.ContractRepository;
 import com.hedera.mirror.importer.repository.ContractResultRepository;
 import com.hedera.mirror.importer.repository.ContractStateChangeRepository;
+import com.hedera.mirror.importer.repository.ContractStateHistoryRepository;
 import com.hedera.mirror.importer.repository.ContractStateRepository;
 import com.hedera.mirror.importer.repository.ContractTransactionRepository;
 import com.hedera.mirror.importer.repository.CryptoAllowanceRepository;
@@ -93,7 +98,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Hex;
@@ -105,6 +112,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.EnumSource.Mode;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 @RequiredArgsConstructor
@@ -116,11 +125,13 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
     private final ContractRepository contractRepository;
     private final ContractResultRepository contractResultRepository;
     private final ContractStateChangeRepository contractStateChangeRepository;
+    private final ContractStateHistoryRepository contractStateHistoryRepository;
     private final ContractStateRepository contractStateRepository;
     private final ContractTransactionRepository contractTransactionRepository;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final CryptoTransferRepository cryptoTransferRepository;
     private final CustomFeeRepository customFeeRepository;
+    private final DataSource dataSource;
     private final DomainBuilder domainBuilder;
     private final EntityProperties entityProperties;
     private final EntityRepository entityRepository;
@@ -134,6 +145,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
     private final NftAllowanceRepository nftAllowanceRepository;
     private final NodeRepository nodeRepository;
     private final NodeStakeRepository nodeStakeRepository;
+    private final ParallelFlusher parallelFlusher;
     private final ParserContext parserContext;
     private final PrngRepository prngRepository;
     private final ScheduleRepository scheduleRepository;
@@ -168,6 +180,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         entityProperties.getPersist().setTransactionHashTypes(defaultTransactionHashTypes);
         entityProperties.getPersist().setTransactionHash(true);
         entityProperties.getPersist().setTrackBalance(true);
+        sqlProperties.setParallelism(1);
     }
 
     @Test
@@ -186,6 +199,122 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void executeBatchParallel() {
+        // given
+        sqlProperties.setParallelism(3);
+        var assessedCustomFee = domainBuilder.assessedCustomFee().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var token = domainBuilder.token().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+
+        // when
+        sqlEntityListener.onAssessedCustomFee(assessedCustomFee);
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onToken(token);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        completeFileAndCommit();
+
+        // then
+        assertThat(assessedCustomFeeRepository.findAll()).containsExactly(assessedCustomFee);
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(tokenRepository.findAll()).containsExactly(token);
+        assertThat(topicMessageRepository.findAll()).containsExactly(topicMessage);
+        assertThat(jdbcOperations.queryForObject("select count(*) from pg_prepared_xacts", Integer.class))
+                .isZero();
+    }
+
+    @Test
+    void executeBatchParallelCommittedAfterRecordFile() {
+        // given
+        sqlProperties.setParallelism(3);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+        var recordFile = domainBuilder.recordFile().get();
+        var recordFiles = new AtomicInteger(-1);
+        var otherPrepared = new AtomicInteger(-1);
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        transactionTemplate.executeWithoutResult(status -> {
+            // Registered before the flush, so it runs before the prepared transactions are completed
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int completionStatus) {
+                    recordFiles.set(count("select count(*) from record_file where consensus_end = "
+                            + recordFile.getConsensusEnd()));
+                    otherPrepared.set(count("select count(*) from pg_prepared_xacts where gid not like '"
+                            + ParallelFlusher.GID_PREFIX + recordFile.getConsensusEnd() + "\\_%'"));
+                }
+            });
+            sqlEntityListener.onEnd(recordFile);
+        });
+        parserContext.clear();
+
+        // then
+        assertThat(recordFiles).hasValue(1);
+        assertThat(otherPrepared).hasValue(0);
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(topicMessageRepository.findAll()).containsExactly(topicMessage);
+        assertThat(count("select count(*) from pg_prepared_xacts")).isZero();
+    }
+
+    @Test
+    void executeBatchParallelRecover() {
+        // given
+        sqlProperties.setParallelism(3);
+        var recordFile = domainBuilder.recordFile().persist();
+        var committed = domainBuilder.cryptoTransfer().get();
+        var rolledBack = domainBuilder.cryptoTransfer().get();
+        // Left behind by a crash after the parser transaction committed the record file
+        prepare(ParallelFlusher.GID_PREFIX + recordFile.getConsensusEnd() + "_0", committed);
+        // Left behind by a crash before the parser transaction committed
+        prepare(ParallelFlusher.GID_PREFIX + (recordFile.getConsensusEnd() + 1) + "_0", rolledBack);
+
+        // when
+        parallelFlusher.recover();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(committed);
+        assertThat(count("select count(*) from pg_prepared_xacts")).isZero();
+    }
+
+    @Test
+    void executeBatchParallelMaxPreparedTransactionsTooLow() {
+        sqlProperties.setParallelism(Integer.MAX_VALUE);
+        assertThatThrownBy(parallelFlusher::recover)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("max_prepared_transactions");
+    }
+
+    @Test
+    void executeBatchParallelRollback() {
+        // given
+        sqlProperties.setParallelism(3);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var topicMessage = domainBuilder.topicMessage().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onTopicMessage(topicMessage);
+        var recordFile = domainBuilder.recordFile().get();
+        transactionTemplate.executeWithoutResult(status -> {
+            sqlEntityListener.onEnd(recordFile);
+            status.setRollbackOnly();
+        });
+        parserContext.clear();
+
+        // then
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(topicMessageRepository.count()).isZero();
+        assertThat(jdbcOperations.queryForObject("select count(*) from pg_prepared_xacts", Integer.class))
+                .isZero();
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
@@ -273,6 +402,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
                 .createdTimestamp(contractStateChange.getConsensusTimestamp())
                 .modifiedTimestamp(contractStateChange.getConsensusTimestamp())
                 .slot(DomainUtils.leftPadBytes(contractStateChange.getSlot(), 32))
+                .timestampRange(Range.atLeast(contractStateChange.getConsensusTimestamp()))
                 .value(contractStateChange.getValueWritten())
                 .build();
 
@@ -308,11 +438,23 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
                 .createdTimestamp(contractStateChangeCreate.getConsensusTimestamp())
                 .modifiedTimestamp(contractStateChangeValueWritten.getConsensusTimestamp())
                 .slot(DomainUtils.leftPadBytes(contractStateChangeCreate.getSlot(), 32))
+                .timestampRange(Range.atLeast(contractStateChangeValueWritten.getConsensusTimestamp()))
                 .value(contractStateChangeValueWritten.getValueWritten())
                 .build();
+        var expectedContractStateHistory = ContractStateHistory.builder()
+                .contractId(contractStateChangeCreate.getContractId())
+                .createdTimestamp(contractStateChangeCreate.getConsensusTimestamp())
+                .modifiedTimestamp(contractStateChangeCreate.getConsensusTimestamp())
+                .slot(DomainUtils.leftPadBytes(contractStateChangeCreate.getSlot(), 32))
+                .timestampRange(Range.closedOpen(
+                        contractStateChangeCreate.getConsensusTimestamp(),
+                        contractStateChangeValueWritten.getConsensusTimestamp()))
+                .value(contractStateChangeCreate.getValueWritten())
+                .build();
 
         // then
         assertThat(contractStateRepository.findAll()).containsExactlyInAnyOrder(expectedContractState);
+        assertThat(contractStateHistoryRepository.findAll()).containsExactlyInAnyOrder(expectedContractStateHistory);
     }
 
     @Test
@@ -3439,6 +3581,34 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         parserContext.clear();
     }
 
+    // Queries on a connection of its own, outside of any transaction bound to the thread
+    @SneakyThrows
+    private int count(String sql) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement();
+                var resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        }
+    }
+
+    @SneakyThrows
+    private void prepare(String gid, CryptoTransfer cryptoTransfer) {
+        try (var connection = dataSource.getConnection();
+                var statement = connection.createStatement()) {
+            connection.setAutoCommit(false);
+            statement.execute(String.format(
+                    "insert into crypto_transfer (amount, consensus_timestamp, entity_id, is_approval, "
+                            + "payer_account_id) values (%d, %d, %d, %b, %d)",
+                    cryptoTransfer.getAmount(),
+                    cryptoTransfer.getConsensusTimestamp(),
+                    cryptoTransfer.getEntityId(),
+                    cryptoTransfer.getIsApproval(),
+                    cryptoTransfer.getPayerAccountId().getId()));
+            statement.execute("prepare transaction '" + gid + "'");
+            connection.setAutoCommit(true);
+        }
+    }
+
     private ContractState getContractState(ContractStateChange contractStateChange, long createdTimestamp) {
         var value = contractStateChange.getValueWritten() == null
                 ? contractStateChange.getValueRead()
@@ -3448,6 +3618,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
                 .createdTimestamp(createdTimestamp)
                 .modifiedTimestamp(contractStateChange.getConsensusTimestamp())
                 .slot(DomainUtils.leftPadBytes(contractStateChange.getSlot(), 32))
+                .timestampRange(Range.atLeast(contractStateChange.getConsensusTimestamp()))
                 .value(value)
                 .build();
     }
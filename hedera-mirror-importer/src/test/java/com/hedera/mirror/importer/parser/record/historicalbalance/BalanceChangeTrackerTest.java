@@ -0,0 +1,162 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class BalanceChangeTrackerTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final HistoricalBalanceProperties properties =
+            new HistoricalBalanceProperties(mock(BalanceDownloaderProperties.class));
+    private final BalanceChangeTracker tracker = new BalanceChangeTracker(properties);
+
+    private RecordFile last;
+
+    @BeforeEach
+    void setup() {
+        properties.setIncremental(true);
+        last = domainBuilder.recordFile().get();
+        tracker.onFlush(List.of(last), Collections.emptyList(), Collections.emptyList());
+        tracker.reset(last.getConsensusEnd());
+    }
+
+    @Test
+    void disabled() {
+        properties.setIncremental(false);
+        var recordFile = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(last.getConsensusEnd(), recordFile.getConsensusEnd())).isEmpty();
+    }
+
+    @Test
+    void getChanges() {
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var treasury = domainBuilder.tokenAccount().get();
+        long previous = last.getConsensusEnd();
+
+        flush(entity1, tokenAccount);
+        tracker.addTokenAccounts(List.of(treasury.getId()));
+        var recordFile = flush(entity2);
+
+        assertThat(tracker.getChanges(previous, recordFile.getConsensusEnd()))
+                .get()
+                .satisfies(c -> assertThat(c.accountIds()).containsExactlyInAnyOrder(entity1.getId(), entity2.getId()))
+                .satisfies(c -> assertThat(c.tokenAccountIds())
+                        .containsExactlyInAnyOrder(tokenAccount.getId(), treasury.getId()));
+    }
+
+    @Test
+    void getChangesAfterReset() {
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var snapshot = flush(entity1);
+        var recordFile = flush(entity2);
+
+        tracker.reset(snapshot.getConsensusEnd());
+
+        assertThat(tracker.getChanges(snapshot.getConsensusEnd(), recordFile.getConsensusEnd()))
+                .get()
+                .extracting(BalanceChangeTracker.BalanceChanges::accountIds)
+                .isEqualTo(Set.of(entity2.getId()));
+    }
+
+    @Test
+    void getChangesBrokenHashChain() {
+        long previous = last.getConsensusEnd();
+        flush(domainBuilder.entity().get());
+        last = domainBuilder.recordFile().get(); // Not tracked
+        var recordFile = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(previous, recordFile.getConsensusEnd())).isEmpty();
+    }
+
+    @Test
+    void getChangesIncomplete() {
+        long previous = last.getConsensusEnd();
+        var recordFile = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(previous, recordFile.getConsensusEnd() + 1)).isEmpty();
+        assertThat(tracker.getChanges(previous - 1, recordFile.getConsensusEnd())).isEmpty();
+    }
+
+    @Test
+    void getChangesUntrackedSnapshot() {
+        var recordFile = flush(domainBuilder.entity().get());
+        tracker.reset(recordFile.getConsensusEnd() - 1);
+        var next = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(recordFile.getConsensusEnd() - 1, next.getConsensusEnd())).isEmpty();
+    }
+
+    @Test
+    void getChangesMaxChanges() {
+        properties.setIncrementalMaxChanges(2);
+        var entity1 = domainBuilder.entity().get();
+        var entity2 = domainBuilder.entity().get();
+        var snapshot = flush(entity1);
+        tracker.reset(snapshot.getConsensusEnd());
+
+        // The changes discarded by the reset don't count towards the maximum
+        flush(entity2);
+        var recordFile = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(snapshot.getConsensusEnd(), recordFile.getConsensusEnd()))
+                .get()
+                .extracting(BalanceChangeTracker.BalanceChanges::accountIds)
+                .satisfies(ids -> assertThat(ids).hasSize(2).contains(entity2.getId()));
+
+        // Exceeding the maximum discards the tracked changes
+        var exceeded = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(snapshot.getConsensusEnd(), exceeded.getConsensusEnd())).isEmpty();
+        tracker.reset(exceeded.getConsensusEnd());
+        var next = flush(domainBuilder.entity().get());
+        assertThat(tracker.getChanges(exceeded.getConsensusEnd(), next.getConsensusEnd())).isEmpty();
+
+        // Tracking resumes after the next snapshot of a tracked record file
+        tracker.reset(next.getConsensusEnd());
+        var entity3 = domainBuilder.entity().get();
+        var recordFile3 = flush(entity3);
+        assertThat(tracker.getChanges(next.getConsensusEnd(), recordFile3.getConsensusEnd()))
+                .get()
+                .extracting(BalanceChangeTracker.BalanceChanges::accountIds)
+                .isEqualTo(Set.of(entity3.getId()));
+    }
+
+    @Test
+    void rollback() {
+        long previous = last.getConsensusEnd();
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            flush(domainBuilder.entity().get());
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(tracker.getChanges(previous, last.getConsensusEnd())).isEmpty();
+    }
+
+    private RecordFile flush(Entity entity, TokenAccount... tokenAccounts) {
+        var recordFile = domainBuilder
+                .recordFile()
+                .customize(r -> r.previousHash(last.getHash()))
+                .get();
+        tracker.onFlush(List.of(recordFile), List.of(entity), List.of(tokenAccounts));
+        last = recordFile;
+        return recordFile;
+    }
+}
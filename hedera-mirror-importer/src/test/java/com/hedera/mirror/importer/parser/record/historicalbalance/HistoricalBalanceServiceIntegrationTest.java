@@ -59,6 +59,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
     private final HistoricalBalanceProperties properties;
@@ -69,6 +70,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final TransactionTemplate transactionTemplate;
 
     private Entity account;
+    private String lastHash;
     private long prevPartitionBalanceTimestamp;
     private long partitionLowerBound;
     private TokenAccount tokenAccount;
@@ -143,6 +145,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.setIncremental(false);
         properties.setTokenBalances(true);
     }
 
@@ -213,6 +216,85 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         verifyGeneratedBalances(balanceTimestamp, updatedEntities, updatedTokenAccounts);
     }
 
+    @Test
+    void generateIncremental() {
+        // given
+        setup();
+        properties.setIncremental(true);
+        domainBuilder
+                .accountBalanceFile()
+                .customize(abf -> abf.consensusTimestamp(prevPartitionBalanceTimestamp))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new Id(prevPartitionBalanceTimestamp, treasuryAccount.toEntityId())))
+                .persist();
+
+        // when, then the first snapshot in a partition is a full snapshot
+        long balanceTimestamp =
+                prevPartitionBalanceTimestamp + properties.getMinFrequency().toNanos();
+        var updatedEntities = entities.stream()
+                .filter(e ->
+                        !Boolean.TRUE.equals(e.getDeleted()) || e.getBalanceTimestamp() > prevPartitionBalanceTimestamp)
+                .toList();
+        verifyGeneratedBalances(balanceTimestamp, updatedEntities, tokenAccounts);
+
+        // when
+        account.setBalance(account.getBalance() + 5);
+        account.setBalanceTimestamp(balanceTimestamp + 1);
+        entityRepository.save(account);
+        tokenAccount.setBalance(tokenAccount.getBalance() + 5);
+        tokenAccount.setBalanceTimestamp(balanceTimestamp + 1);
+        tokenAccountRepository.save(tokenAccount);
+        // changed without being tracked, so it's not part of the incremental snapshot
+        domainBuilder
+                .entity()
+                .customize(e -> e.balanceTimestamp(account.getBalanceTimestamp()))
+                .persist();
+        domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.accountId(account.getId()).balanceTimestamp(account.getBalanceTimestamp()))
+                .persist();
+        parseRecordFile(balanceTimestamp + 2, List.of(account, treasuryAccount), List.of(tokenAccount));
+
+        // then
+        balanceTimestamp += properties.getMinFrequency().plusSeconds(1).toNanos();
+        verifyGeneratedBalances(balanceTimestamp, List.of(treasuryAccount, account), List.of(tokenAccount));
+    }
+
+    @Test
+    void generateIncrementalUntracked() {
+        // given
+        setup();
+        properties.setIncremental(true);
+        domainBuilder
+                .accountBalanceFile()
+                .customize(abf -> abf.consensusTimestamp(prevPartitionBalanceTimestamp))
+                .persist();
+        domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new Id(prevPartitionBalanceTimestamp, treasuryAccount.toEntityId())))
+                .persist();
+        long balanceTimestamp =
+                prevPartitionBalanceTimestamp + properties.getMinFrequency().toNanos();
+        var updatedEntities = entities.stream()
+                .filter(e ->
+                        !Boolean.TRUE.equals(e.getDeleted()) || e.getBalanceTimestamp() > prevPartitionBalanceTimestamp)
+                .toList();
+        verifyGeneratedBalances(balanceTimestamp, updatedEntities, tokenAccounts);
+
+        // when a record file is missing from the tracked hash chain
+        account.setBalance(account.getBalance() + 5);
+        account.setBalanceTimestamp(balanceTimestamp + 1);
+        entityRepository.save(account);
+        lastHash = null;
+        parseRecordFile(balanceTimestamp + 2);
+
+        // then it falls back to the deduplicated snapshot
+        balanceTimestamp += properties.getMinFrequency().plusSeconds(1).toNanos();
+        verifyGeneratedBalances(balanceTimestamp, List.of(treasuryAccount, account), Collections.emptyList());
+    }
+
     @Test
     void generateWhenAccountBalanceFileTableNotEmpty() {
         // given
@@ -373,6 +455,11 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     }
 
     private RecordFile parseRecordFile(final Long consensusEnd) {
+        return parseRecordFile(consensusEnd, Collections.emptyList(), Collections.emptyList());
+    }
+
+    private RecordFile parseRecordFile(
+            final Long consensusEnd, Collection<Entity> changedEntities, Collection<TokenAccount> changedTokenAccounts) {
         return transactionTemplate.execute(t -> {
             var recordFile = domainBuilder
                     .recordFile()
@@ -380,8 +467,14 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
                         if (consensusEnd != null) {
                             rf.consensusEnd(consensusEnd).consensusStart(consensusEnd - 100);
                         }
+
+                        if (lastHash != null) {
+                            rf.previousHash(lastHash);
+                        }
                     })
                     .get();
+            lastHash = recordFile.getHash();
+            balanceChangeTracker.onFlush(List.of(recordFile), changedEntities, changedTokenAccounts);
             recordFileRepository.save(recordFile);
             applicationEventPublisher.publishEvent(new RecordFileParsedEvent(this, recordFile.getConsensusEnd()));
             return recordFile;
@@ -24,6 +24,7 @@ import org.awaitility.Durations;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +56,8 @@ class HistoricalBalanceServiceTest {
         var service = new HistoricalBalanceService(
                 accountBalanceFileRepository,
                 accountBalanceRepository,
+                new BalanceChangeTracker(historicalBalanceProperties),
+                mock(JdbcTemplate.class),
                 new SimpleMeterRegistry(),
                 platformTransactionManager,
                 historicalBalanceProperties,
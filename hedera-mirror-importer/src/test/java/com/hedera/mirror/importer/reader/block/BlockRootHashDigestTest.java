@@ -8,6 +8,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
 import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.nio.ByteBuffer;
 import org.bouncycastle.util.encoders.Hex;
 import org.junit.jupiter.api.Test;
 
@@ -87,6 +89,45 @@ class BlockRootHashDigestTest {
                         "1062c46277c5be0408165dd5eb4aba605b8193066fd66c9f05d92a2ba62150406a897104804e540deb3412657f208f13");
     }
 
+    @Test
+    void digestSerializedBlockItems() {
+        // given
+        var expected = new BlockRootHashDigest();
+        var subject = new BlockRootHashDigest();
+        for (var digest : new BlockRootHashDigest[] {expected, subject}) {
+            digest.setPreviousHash(EMPTY_HASH);
+            digest.setStartOfBlockStateHash(EMPTY_HASH);
+        }
+
+        // Enough block items for the input and output merkle trees to be calculated in parallel
+        for (int i = 0; i < BlockRootHashDigest.PARALLEL_THRESHOLD; i++) {
+            var blockItem = BlockItem.newBuilder()
+                    .setStateChanges(StateChanges.newBuilder()
+                            .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(i)))
+                    .build();
+            // Serialized block item in the middle of a larger buffer, like a block item within a block
+            var serialized = blockItem.toByteArray();
+            var bytes = new byte[serialized.length + 2];
+            System.arraycopy(serialized, 0, bytes, 1, serialized.length);
+            var slice = ByteBuffer.wrap(bytes, 1, serialized.length);
+
+            if (i % 3 == 0) {
+                expected.addInputBlockItem(blockItem);
+                subject.addInputBlockItem(slice);
+            } else {
+                expected.addOutputBlockItem(blockItem);
+                subject.addOutputBlockItem(slice);
+            }
+        }
+
+        // when
+        String actual = subject.digest();
+
+        // then
+        assertThat(actual).isEqualTo(expected.digest());
+        assertThat(subject.getOutputBlockItems().getFirst().position()).isOne();
+    }
+
     @Test
     void shouldThrowWhenPreviousHashNotSet() {
         var subject = new BlockRootHashDigest();
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import com.google.common.primitives.Bytes;
 import com.google.common.primitives.Ints;
 import com.hedera.mirror.common.domain.DigestAlgorithm;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.TestUtils;
 import com.hedera.mirror.importer.domain.StreamFileData;
@@ -21,6 +22,7 @@ import com.hedera.services.stream.proto.RecordStreamItem;
 import com.hederahashgraph.api.proto.java.CryptoTransferTransactionBody;
 import com.hederahashgraph.api.proto.java.SemanticVersion;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
@@ -51,6 +53,37 @@ class ProtoRecordFileReaderTest extends AbstractRecordFileReaderTest {
         assertEquals(expected, exception.getMessage());
     }
 
+    @Test
+    void testParallelDecoding() {
+        int count = RecordItemDecoder.PARALLEL_THRESHOLD * 2;
+        var bytes = gzip(ProtoRecordStreamFile.of(b -> {
+            var recordStreamItem = b.getRecordStreamItems(0);
+            b.clearRecordStreamItems();
+            for (int i = 0; i < count; i++) {
+                var transactionRecord = TransactionRecord.newBuilder()
+                        .setConsensusTimestamp(Timestamp.newBuilder().setSeconds(i + 1L));
+                b.addRecordStreamItems(recordStreamItem.toBuilder().setRecord(transactionRecord));
+            }
+            return b;
+        }));
+        var reader = new ProtoRecordFileReader();
+        var streamFileData = StreamFileData.from(FILENAME, bytes);
+        var recordFile = reader.read(streamFileData);
+
+        assertThat(recordFile.getCount()).isEqualTo((long) count);
+        assertThat(recordFile.getConsensusStart()).isEqualTo(DomainUtils.convertToNanosMax(1L, 0));
+        assertThat(recordFile.getConsensusEnd()).isEqualTo(DomainUtils.convertToNanosMax(count, 0));
+        assertThat(recordFile.getIndex()).isEqualTo(100L);
+        var items = recordFile.getItems();
+        for (int i = 0; i < count; i++) {
+            var item = items.get(i);
+            assertThat(item)
+                    .returns(i, RecordItem::getTransactionIndex)
+                    .returns(i > 0 ? items.get(i - 1) : null, RecordItem::getPrevious)
+                    .returns(DomainUtils.convertToNanosMax(i + 1L, 0), RecordItem::getConsensusTimestamp);
+        }
+    }
+
     @Test
     void testInvalidHashAlgorithm() {
         var bytes = gzip(ProtoRecordStreamFile.of(b -> {
@@ -0,0 +1,36 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.importer.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.contract.ContractStateHistory;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class ContractStateHistoryRepositoryTest extends ImporterIntegrationTest {
+
+    private final ContractStateHistoryRepository contractStateHistoryRepository;
+
+    @Test
+    void prune() {
+        domainBuilder.contractStateHistory().persist();
+        var contractStateHistory2 = domainBuilder.contractStateHistory().persist();
+        var contractStateHistory3 = domainBuilder.contractStateHistory().persist();
+
+        contractStateHistoryRepository.prune(contractStateHistory2.getTimestampUpper());
+
+        assertThat(contractStateHistoryRepository.findAll()).containsExactly(contractStateHistory3);
+    }
+
+    @Test
+    void save() {
+        ContractStateHistory contractStateHistory =
+                domainBuilder.contractStateHistory().persist();
+        assertThat(contractStateHistoryRepository.findById(contractStateHistory.getId()))
+                .get()
+                .isEqualTo(contractStateHistory);
+    }
+}
@@ -35,6 +35,7 @@ class RetentionJobTest extends ImporterIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setEnabled(false);
     }
 
@@ -168,6 +169,24 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void prunePartialDropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile3);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
@@ -4,7 +4,9 @@ package com.hedera.mirror.restjava;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -12,6 +14,7 @@ import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -46,11 +49,32 @@ public class RestJavaProperties {
     @Data
     @Validated
     public static class ResponseConfig {
+        @NotNull
+        @Valid
+        private ResponseCacheConfig cache = new ResponseCacheConfig();
+
         @NotNull
         @Valid
         private ResponseHeadersConfig headers = new ResponseHeadersConfig();
     }
 
+    @Data
+    @Validated
+    public static class ResponseCacheConfig {
+        private boolean enabled = false;
+
+        @Min(0)
+        private long maxSize = 10000;
+
+        @DurationMin(millis = 1)
+        @NotNull
+        private Duration refreshInterval = Duration.ofMillis(500L);
+
+        @DurationMin(millis = 1)
+        @NotNull
+        private Duration ttl = Duration.ofSeconds(10L);
+    }
+
     @Data
     @Validated
     public static class ResponseHeadersConfig {
@@ -0,0 +1,155 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.restjava.config;
+
+import static org.springframework.http.HttpHeaders.CONTENT_LENGTH;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Suppliers;
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.repository.RecordFileRepository;
+import jakarta.inject.Named;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Caches successful API responses in memory, keyed by the normalized request and the consensus end of the latest record
+ * file. The cache is cleared as soon as a new record file is seen, so a response is served from the cache at most until
+ * the next record file is ingested or its TTL expires, whichever comes first. It's ordered after the logging and
+ * metrics filters so cached responses are still logged and measured.
+ */
+@Order(Ordered.LOWEST_PRECEDENCE)
+@Named
+class ResponseCacheFilter extends OncePerRequestFilter {
+
+    @SuppressWarnings("java:S1075")
+    private static final String API_PATH = "/api/";
+
+    private final Cache<String, CachedResponse> cache;
+    private final RestJavaProperties.ResponseCacheConfig properties;
+    private final Supplier<Optional<Long>> latestConsensusEnd;
+    private final AtomicLong lastConsensusEnd = new AtomicLong();
+
+    ResponseCacheFilter(RestJavaProperties restJavaProperties, RecordFileRepository recordFileRepository) {
+        this.properties = restJavaProperties.getResponse().getCache();
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaxSize())
+                .build();
+        this.latestConsensusEnd = Suppliers.memoizeWithExpiration(
+                recordFileRepository::findLatestConsensusEnd,
+                properties.getRefreshInterval().toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !HttpMethod.GET.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        var consensusEnd = latestConsensusEnd.get();
+        if (consensusEnd.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long latest = consensusEnd.get();
+        if (lastConsensusEnd.getAndSet(latest) != latest) {
+            cache.invalidateAll();
+        }
+
+        var key = getCacheKey(request, latest);
+        var cachedResponse = cache.getIfPresent(key);
+        if (cachedResponse != null) {
+            cachedResponse.write(request, response);
+            return;
+        }
+
+        var responseWrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, responseWrapper);
+
+            if (responseWrapper.getStatus() == HttpStatus.OK.value()) {
+                cache.put(key, CachedResponse.of(request, responseWrapper));
+            }
+        } finally {
+            responseWrapper.copyBodyToResponse();
+        }
+    }
+
+    /*
+     * Normalizes the request so that requests only differing in the order of their query parameters share the same
+     * cache key. The order of the values of a repeated query parameter is kept.
+     */
+    static String getCacheKey(HttpServletRequest request, long consensusEnd) {
+        var key = new StringBuilder().append(consensusEnd).append(' ').append(request.getRequestURI());
+        var parameters = new TreeMap<>(request.getParameterMap());
+        char separator = '?';
+
+        for (var parameter : parameters.entrySet()) {
+            for (var value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=').append(value);
+                separator = '&';
+            }
+        }
+
+        return key.toString();
+    }
+
+    private record CachedResponse(byte[] body, String contentType, Map<String, List<String>> headers, Object pattern) {
+
+        static CachedResponse of(HttpServletRequest request, ContentCachingResponseWrapper response) {
+            var headers = new LinkedHashMap<String, List<String>>();
+            for (var name : response.getHeaderNames()) {
+                // Set from the cached body instead
+                if (!CONTENT_LENGTH.equalsIgnoreCase(name) && !CONTENT_TYPE.equalsIgnoreCase(name)) {
+                    headers.put(name, new ArrayList<>(response.getHeaders(name)));
+                }
+            }
+
+            return new CachedResponse(
+                    response.getContentAsByteArray(),
+                    response.getContentType(),
+                    headers,
+                    request.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE));
+        }
+
+        void write(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            if (pattern != null) {
+                request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            }
+
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType);
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
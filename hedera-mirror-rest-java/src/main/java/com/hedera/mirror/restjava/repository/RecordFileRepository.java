@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.restjava.repository;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+
+public interface RecordFileRepository extends CrudRepository<RecordFile, Long> {
+
+    @Query(value = "select consensus_end from record_file order by consensus_end desc limit 1", nativeQuery = true)
+    Optional<Long> findLatestConsensusEnd();
+}
@@ -0,0 +1,199 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.restjava.config;
+
+import static com.hedera.mirror.restjava.config.MetricsFilter.RESPONSE_BYTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE;
+
+import com.hedera.mirror.restjava.RestJavaProperties;
+import com.hedera.mirror.restjava.repository.RecordFileRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.apache.catalina.connector.ResponseFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.DelegatingServletOutputStream;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class ResponseCacheFilterTest {
+
+    private static final String PATH = "/api/v1/topics/1000";
+    private static final String PATTERN = "/api/v1/topics/{id}";
+
+    private final AtomicInteger count = new AtomicInteger();
+    private final RestJavaProperties properties = new RestJavaProperties();
+
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
+    @Mock
+    private ResponseFacade responseFacade;
+
+    private int status;
+    private ResponseCacheFilter responseCacheFilter;
+
+    @BeforeEach
+    void setup() {
+        var cacheProperties = properties.getResponse().getCache();
+        cacheProperties.setEnabled(true);
+        cacheProperties.setRefreshInterval(Duration.ofNanos(1L));
+        responseCacheFilter = new ResponseCacheFilter(properties, recordFileRepository);
+        status = HttpStatus.OK.value();
+    }
+
+    @Test
+    void cached() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+
+        assertResponse(get(PATH), "1");
+        var response = get(PATH);
+        assertResponse(response, "1");
+        assertThat(response.getHeader(CACHE_CONTROL)).isEqualTo("public, max-age=1");
+        assertThat(count).hasValue(1);
+    }
+
+    @Test
+    void invalidatedByNewRecordFile() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L), Optional.of(2L));
+
+        assertResponse(get(PATH), "1");
+        assertResponse(get(PATH), "2");
+        assertResponse(get(PATH), "2");
+        assertThat(count).hasValue(2);
+    }
+
+    @Test
+    void disabled() {
+        properties.getResponse().getCache().setEnabled(false);
+
+        assertResponse(get(PATH), "1");
+        assertResponse(get(PATH), "2");
+    }
+
+    @Test
+    void noRecordFile() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.empty());
+
+        assertResponse(get(PATH), "1");
+        assertResponse(get(PATH), "2");
+    }
+
+    @Test
+    void notCachedOnError() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        status = HttpStatus.NOT_FOUND.value();
+
+        assertThat(get(PATH).getStatus()).isEqualTo(status);
+        assertThat(get(PATH).getStatus()).isEqualTo(status);
+        assertThat(count).hasValue(2);
+    }
+
+    @Test
+    void differentQuery() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+
+        assertResponse(get(PATH + "?limit=1&order=asc"), "1");
+        assertResponse(get(PATH + "?order=asc&limit=1"), "1");
+        assertResponse(get(PATH + "?limit=2&order=asc"), "2");
+        assertThat(count).hasValue(2);
+    }
+
+    @Test
+    @SneakyThrows
+    void cachedRecordsResponseBytes() {
+        when(recordFileRepository.findLatestConsensusEnd()).thenReturn(Optional.of(1L));
+        var body = new ByteArrayOutputStream();
+        when(responseFacade.getOutputStream()).thenReturn(new DelegatingServletOutputStream(body));
+        when(responseFacade.getContentWritten()).thenAnswer(i -> (long) body.size());
+        var meterRegistry = new SimpleMeterRegistry();
+        assertResponse(get(PATH), "1");
+
+        var chain = new MockFilterChain(servlet(), new MetricsFilter(meterRegistry), responseCacheFilter);
+        chain.doFilter(new MockHttpServletRequest("GET", PATH), responseFacade);
+
+        assertThat(body).hasToString("1");
+        assertThat(count).hasValue(1);
+        assertThat(meterRegistry.find(RESPONSE_BYTES).tags("method", "GET", "uri", PATTERN).summary())
+                .isNotNull()
+                .returns(1L, DistributionSummary::count)
+                .returns(1.0, DistributionSummary::totalAmount);
+    }
+
+    @Test
+    void orderedAfterLoggingAndMetrics() {
+        var loggingOrder = OrderUtils.getOrder(LoggingFilter.class);
+        var metricsOrder = OrderUtils.getOrder(MetricsFilter.class);
+        var cacheOrder = OrderUtils.getOrder(ResponseCacheFilter.class);
+
+        assertThat(loggingOrder).isNotNull().isLessThan(metricsOrder);
+        assertThat(metricsOrder).isNotNull().isLessThan(cacheOrder);
+    }
+
+    @Test
+    void getCacheKey() {
+        var request = new MockHttpServletRequest("GET", PATH);
+        request.addParameter("timestamp", "lt:2", "gt:1");
+        request.addParameter("account.id", "3");
+
+        assertThat(ResponseCacheFilter.getCacheKey(request, 5L))
+                .isEqualTo("5 " + PATH + "?account.id=3&timestamp=lt:2&timestamp=gt:1");
+    }
+
+    @SneakyThrows
+    private MockHttpServletResponse get(String uri) {
+        var request = new MockHttpServletRequest("GET", uri);
+        int index = uri.indexOf('?');
+        if (index > 0) {
+            request.setRequestURI(uri.substring(0, index));
+            for (var parameter : uri.substring(index + 1).split("&")) {
+                var pair = parameter.split("=");
+                request.addParameter(pair[0], pair[1]);
+            }
+        }
+
+        var response = new MockHttpServletResponse();
+        responseCacheFilter.doFilter(request, response, new MockFilterChain(servlet()));
+        return response;
+    }
+
+    private HttpServlet servlet() {
+        return new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                req.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+                resp.setStatus(status);
+                resp.setHeader(CACHE_CONTROL, "public, max-age=1");
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.getWriter().write(String.valueOf(count.incrementAndGet()));
+            }
+        };
+    }
+
+    @SneakyThrows
+    private void assertResponse(MockHttpServletResponse response, String body) {
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentAsString()).isEqualTo(body);
+    }
+}
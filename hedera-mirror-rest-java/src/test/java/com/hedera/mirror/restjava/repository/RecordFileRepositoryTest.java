@@ -0,0 +1,25 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.restjava.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.restjava.RestJavaIntegrationTest;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+@RequiredArgsConstructor
+class RecordFileRepositoryTest extends RestJavaIntegrationTest {
+
+    private final RecordFileRepository recordFileRepository;
+
+    @Test
+    void findLatestConsensusEnd() {
+        assertThat(recordFileRepository.findLatestConsensusEnd()).isEmpty();
+
+        domainBuilder.recordFile().persist();
+        var latest = domainBuilder.recordFile().persist();
+
+        assertThat(recordFileRepository.findLatestConsensusEnd()).get().isEqualTo(latest.getConsensusEnd());
+    }
+}
@@ -1054,6 +1054,7 @@ const contractStateDefaults = {
   created_timestamp: 1664365660048674966,
   modified_timestamp: 1664365660048674966,
   slot: '0000000000000000000000000000000000000000000000000000000000000001',
+  timestamp_range: null,
   value: 1,
 };
 
@@ -1082,6 +1083,10 @@ const addContractState = async (contractStateInput) => {
     ...contractStateInput,
   };
 
+  if (state.timestamp_range === null) {
+    state.timestamp_range = `[${state.modified_timestamp},)`;
+  }
+
   convertByteaFields(['slot', 'value'], state);
 
   await insertDomainObject('contract_state', Object.keys(contractStateDefaults), state);
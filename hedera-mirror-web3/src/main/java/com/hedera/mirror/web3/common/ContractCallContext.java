@@ -17,6 +17,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -45,6 +46,18 @@ public class ContractCallContext {
     @Setter
     private List<Opcode> opcodes = new ArrayList<>();
 
+    /**
+     * Receives each traced opcode as soon as it's produced instead of collecting them all in {@link #opcodes}.
+     */
+    @Setter
+    private Consumer<Opcode> opcodeConsumer;
+
+    /**
+     * The memory captured by the {@link OpcodeTracer} for the last traced opcode, reused while it's unchanged.
+     */
+    @Setter
+    private OpcodeTracer.MemorySnapshot memorySnapshot;
+
     @Setter
     private CallServiceParameters callServiceParameters;
 
@@ -83,6 +96,19 @@ public class ContractCallContext {
         return ScopedValue.getWhere(SCOPED_VALUE, new ContractCallContext(), () -> function.apply(SCOPED_VALUE.get()));
     }
 
+    /**
+     * Runs the function in a new context that reads state at the same block as this one. The new context has its own
+     * stack and caches, so it can be used to execute on another thread concurrently with this one.
+     */
+    public <T> T fork(Function<ContractCallContext, T> function) {
+        return run(ctx -> {
+            ctx.setCallServiceParameters(callServiceParameters);
+            ctx.setRecordFile(recordFile);
+            ctx.setTimestamp(timestamp);
+            return function.apply(ctx);
+        });
+    }
+
     public void reset() {
         stack = stackBase;
         writeCache.clear();
@@ -107,7 +133,11 @@ public class ContractCallContext {
     }
 
     public void addOpcodes(Opcode opcode) {
-        opcodes.add(opcode);
+        if (opcodeConsumer != null) {
+            opcodeConsumer.accept(opcode);
+        } else {
+            opcodes.add(opcode);
+        }
     }
 
     /**
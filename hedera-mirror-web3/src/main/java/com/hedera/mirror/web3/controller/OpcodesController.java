@@ -4,16 +4,25 @@ package com.hedera.mirror.web3.controller;
 
 import static com.hedera.mirror.web3.config.ThrottleConfiguration.RATE_LIMIT_BUCKET;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.hedera.mirror.rest.model.OpcodesResponse;
 import com.hedera.mirror.web3.common.TransactionIdOrHashParameter;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import com.hedera.mirror.web3.evm.properties.OpcodeTracerProperties;
 import com.hedera.mirror.web3.exception.RateLimitException;
 import com.hedera.mirror.web3.service.OpcodeService;
 import io.github.bucket4j.Bucket;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -27,7 +36,11 @@ import org.springframework.web.bind.annotation.RestController;
 @ConditionalOnProperty(prefix = "hedera.mirror.web3.opcode.tracer", name = "enabled", havingValue = "true")
 class OpcodesController {
 
+    private static final String OPCODES = "opcodes";
+
+    private final ObjectMapper objectMapper;
     private final OpcodeService opcodeService;
+    private final OpcodeTracerProperties opcodeTracerProperties;
 
     @Qualifier(RATE_LIMIT_BUCKET)
     private final Bucket rateLimitBucket;
@@ -47,19 +60,72 @@ class OpcodesController {
      * @param stack               Include stack information
      * @param memory              Include memory information
      * @param storage             Include storage information
-     * @return {@link OpcodesResponse} containing the result of the transaction execution
+     * @param response            The response the opcodes are streamed to in streaming mode
+     * @return {@link OpcodesResponse} containing the result of the transaction execution, or null if it was streamed
      */
     @GetMapping(value = "/{transactionIdOrHash}/opcodes")
     OpcodesResponse getContractOpcodes(
             @PathVariable TransactionIdOrHashParameter transactionIdOrHash,
             @RequestParam(required = false, defaultValue = "true") boolean stack,
             @RequestParam(required = false, defaultValue = "false") boolean memory,
-            @RequestParam(required = false, defaultValue = "false") boolean storage) {
+            @RequestParam(required = false, defaultValue = "false") boolean storage,
+            HttpServletResponse response)
+            throws IOException {
         if (!rateLimitBucket.tryConsume(1)) {
             throw new RateLimitException("Requests per second rate limit exceeded.");
         }
 
         final var options = new OpcodeTracerOptions(stack, memory, storage);
+        if (opcodeTracerProperties.isStreaming()) {
+            streamContractOpcodes(transactionIdOrHash, options, response);
+            return null;
+        }
+
         return opcodeService.processOpcodeCall(transactionIdOrHash, options);
     }
+
+    /**
+     * Writes each opcode to a temporary file as it's traced, so the memory used doesn't grow with the length of the
+     * trace. The opcodes come first since the rest of the response is only known once the execution completes. The file
+     * is only copied to the response once the execution succeeds, so an error at any point of the trace is still
+     * returned as a regular error response instead of a truncated body.
+     */
+    private void streamContractOpcodes(
+            TransactionIdOrHashParameter transactionIdOrHash,
+            OpcodeTracerOptions options,
+            HttpServletResponse response)
+            throws IOException {
+        final var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        final var file = Files.createTempFile(OPCODES, ".json");
+
+        try {
+            try (var generator = objectMapper.getFactory().createGenerator(Files.newOutputStream(file))) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(OPCODES);
+
+                final var result = opcodeService.processOpcodeCall(transactionIdOrHash, options, opcode -> {
+                    try {
+                        writer.writeValue(generator, opcode);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+                generator.writeEndArray();
+                final ObjectNode fields = objectMapper.valueToTree(result);
+                fields.remove(OPCODES);
+                for (var field : fields.properties()) {
+                    generator.writeFieldName(field.getKey());
+                    writer.writeValue(generator, field.getValue());
+                }
+                generator.writeEndObject();
+            }
+
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLengthLong(Files.size(file));
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
 }
@@ -75,6 +75,7 @@ import org.springframework.context.annotation.Primary;
 @RequiredArgsConstructor
 public class EvmConfiguration {
 
+    public static final String CACHE_MANAGER_BALANCE_SNAPSHOT = "balanceSnapshot";
     public static final String CACHE_MANAGER_CONTRACT = "contract";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
@@ -95,6 +96,7 @@ public class EvmConfiguration {
     public static final String CACHE_NAME_NFT_ALLOWANCE = "nftAllowance";
     public static final String CACHE_NAME_RECORD_FILE_LATEST = "latest";
     public static final String CACHE_NAME_RECORD_FILE_LATEST_INDEX = "latestIndex";
+    public static final String CACHE_NAME_STORAGE_PREFETCH = "storagePrefetch";
     public static final String CACHE_NAME_TOKEN = "token";
     public static final String CACHE_NAME_TOKEN_ACCOUNT = "tokenAccount";
     public static final String CACHE_NAME_TOKEN_ACCOUNT_COUNT = "tokenAccountCount";
@@ -131,6 +133,9 @@ public class EvmConfiguration {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
         caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
         caffeineCacheManager.setCacheSpecification(cacheProperties.getContractState());
+        caffeineCacheManager.registerCustomCache(
+                CACHE_NAME_STORAGE_PREFETCH,
+                Caffeine.from(cacheProperties.getContractStatePrefetch()).build());
         return caffeineCacheManager;
     }
 
@@ -186,6 +191,18 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_BALANCE_SNAPSHOT)
+    CacheManager cacheManagerBalanceSnapshot() {
+        final var caffeine = Caffeine.newBuilder()
+                .expireAfterAccess(10, TimeUnit.MINUTES)
+                .maximumSize(10000)
+                .recordStats();
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(caffeine);
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_RECORD_FILE_TIMESTAMP)
     CacheManager cacheManagerRecordFileTimestamp() {
         final var caffeine = Caffeine.newBuilder()
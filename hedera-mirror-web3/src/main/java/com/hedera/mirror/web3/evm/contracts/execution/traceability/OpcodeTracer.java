@@ -31,6 +31,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.CustomLog;
@@ -51,6 +52,10 @@ import org.springframework.util.CollectionUtils;
 @Getter
 public class OpcodeTracer implements HederaOperationTracer {
 
+    // Operations that can change the memory of the current frame while executing
+    private static final Set<String> MEMORY_WRITES = Set.of(
+            "CALLDATACOPY", "CODECOPY", "EXTCODECOPY", "MCOPY", "MSTORE", "MSTORE8", "RETURNDATACOPY");
+
     private final Map<Address, PrecompiledContract> hederaPrecompiles;
     private final MirrorNodeEvmProperties evmProperties;
     private final State mirrorNodeState;
@@ -77,7 +82,7 @@ public class OpcodeTracer implements HederaOperationTracer {
             context.incrementContractActionsCounter();
         }
         OpcodeTracerOptions options = context.getOpcodeTracerOptions();
-        final List<Bytes> memory = captureMemory(frame, options);
+        final List<Bytes> memory = captureMemory(frame, options, context);
         final List<Bytes> stack = captureStack(frame, options);
         final Map<Bytes, Bytes> storage = captureStorage(frame, options);
         Opcode opcode = Opcode.builder()
@@ -136,20 +141,42 @@ public class OpcodeTracer implements HederaOperationTracer {
         }
     }
 
-    private List<Bytes> captureMemory(final MessageFrame frame, OpcodeTracerOptions options) {
+    private List<Bytes> captureMemory(
+            final MessageFrame frame, OpcodeTracerOptions options, ContractCallContext context) {
         if (!options.isMemory()) {
             return Collections.emptyList();
         }
 
         int size = frame.memoryWordSize();
-        var memory = new ArrayList<Bytes>(size);
-        for (int i = 0; i < size; i++) {
-            memory.add(frame.readMemory(i * 32L, 32));
+        var previous = context.getMemorySnapshot();
+        List<Bytes> memory;
+
+        if (previous != null
+                && previous.frame() == frame
+                && previous.words().size() <= size
+                && !MEMORY_WRITES.contains(frame.getCurrentOperation().getName())) {
+            // Only the words added by memory expansion since the last opcode need to be read
+            memory = previous.words();
+            if (memory.size() < size) {
+                memory = new ArrayList<>(memory);
+                readMemory(frame, memory, size);
+            }
+        } else {
+            memory = new ArrayList<>(size);
+            readMemory(frame, memory, size);
         }
 
+        // A suspended frame gets the output of the child frame written to its memory before it resumes
+        context.setMemorySnapshot(frame.getState() == CODE_SUSPENDED ? null : new MemorySnapshot(frame, memory));
         return memory;
     }
 
+    private void readMemory(final MessageFrame frame, List<Bytes> memory, int size) {
+        for (int i = memory.size(); i < size; i++) {
+            memory.add(frame.readMemory(i * 32L, 32));
+        }
+    }
+
     private List<Bytes> captureStack(final MessageFrame frame, OpcodeTracerOptions options) {
         if (!options.isStack()) {
             return Collections.emptyList();
@@ -282,4 +309,10 @@ public class OpcodeTracer implements HederaOperationTracer {
 
         return storageUpdates;
     }
+
+    /**
+     * The memory words captured for an opcode of a frame. The list is shared by the opcodes that follow it while the
+     * memory doesn't change, so it must not be modified.
+     */
+    public record MemorySnapshot(MessageFrame frame, List<Bytes> words) {}
 }
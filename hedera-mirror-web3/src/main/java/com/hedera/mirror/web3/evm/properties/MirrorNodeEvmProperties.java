@@ -66,6 +66,11 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private double estimateGasIterationThresholdPercent = 0.10d;
 
+    // number of gas limits executed concurrently in each round of estimate gas' search. One uses a binary search
+    @Getter
+    @Min(1)
+    private int estimateGasParallelism = 1;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -182,6 +187,11 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Getter
     private boolean modularizedServices;
 
+    // The maximum number of storage slots to load in one query on first access to a contract. Zero disables it
+    @Getter
+    @Min(0)
+    private int storagePrefetchMaxSlots = 0;
+
     public boolean shouldAutoRenewAccounts() {
         return autoRenewTargetTypes.contains(EntityType.ACCOUNT);
     }
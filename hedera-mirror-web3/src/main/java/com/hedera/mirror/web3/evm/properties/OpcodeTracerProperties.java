@@ -0,0 +1,18 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.web3.evm.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "hedera.mirror.web3.opcode.tracer")
+public class OpcodeTracerProperties {
+
+    private boolean enabled = false;
+
+    // Write each opcode to a temporary file as soon as it's traced instead of building the whole response in memory
+    private boolean streaming = false;
+}
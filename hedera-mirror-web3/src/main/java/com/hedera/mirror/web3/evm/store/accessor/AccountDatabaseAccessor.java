@@ -17,13 +17,13 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.web3.evm.exception.WrongTypeException;
 import com.hedera.mirror.web3.evm.store.DatabaseBackedStateFrame.DatabaseAccessIncorrectKeyTypeException;
-import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
+import com.hedera.mirror.web3.service.AccountBalanceService;
 import com.hedera.mirror.web3.utils.Suppliers;
 import com.hedera.services.jproto.JContractIDKey;
 import com.hedera.services.jproto.JKey;
@@ -63,7 +63,7 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
     private final TokenAllowanceRepository tokenAllowanceRepository;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final TokenAccountRepository tokenAccountRepository;
-    private final AccountBalanceRepository accountBalanceRepository;
+    private final AccountBalanceService accountBalanceService;
 
     @Override
     public @NonNull Optional<Account> get(@NonNull Object key, final Optional<Long> timestamp) {
@@ -129,7 +129,7 @@ public class AccountDatabaseAccessor extends DatabaseAccessor<Object, Account> {
                 .map(t -> {
                     Long createdTimestamp = entity.getCreatedTimestamp();
                     if (createdTimestamp == null || t >= createdTimestamp) {
-                        return accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), t);
+                        return accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), t);
                     } else {
                         return ZERO_BALANCE;
                     }
@@ -6,6 +6,8 @@ import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_C
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 
 import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.common.util.DomainUtils;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
@@ -20,11 +22,54 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
     /**
      * This method retrieves the most recent contract state storage value up to given block timestamp.
      *
-     * <p>The method queries contract_state_change table for the most recent contract state storage value
-     * before or equal to the specified block timestamp.
+     * <p>The value is first looked up in the contract_state and contract_state_history tables, which is a single index
+     * lookup. Values older than the history kept by the importer are read from the contract_state_change table.
      *
-     * <p>The result of the query is then ordered by timestamp in descending order
-     * to get the most recent value.
+     * @param id             The ID of the contract.
+     * @param slot           The slot in the contract's storage.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage value.
+     * @return An {@code Optional} containing the byte array of the storage value if found, or an empty {@code Optional} if not.
+     */
+    default Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp) {
+        var value = findStorageHistoryByBlockTimestamp(id, DomainUtils.leftPadBytes(slot, 32), blockTimestamp);
+        return value.isPresent() ? value : findStorageChangeByBlockTimestamp(id, slot, blockTimestamp);
+    }
+
+    /**
+     * Finds the storage value at the block timestamp from the current contract state or its history.
+     *
+     * @param id             The ID of the contract.
+     * @param slot           The slot in the contract's storage, left padded to 32 bytes.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage value.
+     * @return The storage value, or empty if the value at the block timestamp isn't in the history
+     */
+    @Query(
+            value =
+                    """
+            (
+                select value
+                from contract_state
+                where contract_id = ?1
+                and slot = ?2
+                and lower(timestamp_range) <= ?3
+            )
+            union all
+            (
+                select value
+                from contract_state_history
+                where contract_id = ?1
+                and slot = ?2
+                and lower(timestamp_range) <= ?3
+                order by lower(timestamp_range) desc
+                limit 1
+            )
+            limit 1
+            """,
+            nativeQuery = true)
+    Optional<byte[]> findStorageHistoryByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * Finds the most recent storage value before or equal to the block timestamp from the contract_state_change table.
      *
      * @param id             The ID of the contract.
      * @param slot           The slot in the contract's storage.
@@ -44,5 +89,48 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             limit 1
             """,
             nativeQuery = true)
-    Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+    Optional<byte[]> findStorageChangeByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * Finds the storage slots of a contract, up to the limit, so they can be loaded together instead of one query per
+     * slot.
+     *
+     * @param contractId The ID of the contract.
+     * @param limit      The maximum number of slots to return.
+     * @return The contract storage slots.
+     */
+    @Query(value = "select * from contract_state where contract_id = ?1 limit ?2", nativeQuery = true)
+    List<ContractState> findStorageSlots(long contractId, int limit);
+
+    /**
+     * Finds the most recent storage value of each slot of a contract up to the given block timestamp, up to the limit.
+     *
+     * <p>The values are read from the contract_state and contract_state_history tables. Slots last written before the
+     * history was kept aren't returned and need to be read with {@link #findStorageByBlockTimestamp}.
+     *
+     * @param contractId     The ID of the contract.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage values.
+     * @param limit          The maximum number of slots to return.
+     * @return The contract storage slots as of the block timestamp.
+     */
+    @Query(
+            value =
+                    """
+            select distinct on (slot) *
+            from (
+                select contract_id, created_timestamp, modified_timestamp, slot, timestamp_range, value
+                from contract_state
+                where contract_id = ?1
+                and lower(timestamp_range) <= ?2
+                union all
+                select contract_id, created_timestamp, modified_timestamp, slot, timestamp_range, value
+                from contract_state_history
+                where contract_id = ?1
+                and lower(timestamp_range) <= ?2
+            ) as state
+            order by slot, lower(timestamp_range) desc
+            limit ?3
+            """,
+            nativeQuery = true)
+    List<ContractState> findStorageSlotsByBlockTimestamp(long contractId, long blockTimestamp, int limit);
 }
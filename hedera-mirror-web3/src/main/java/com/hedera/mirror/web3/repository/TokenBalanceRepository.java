@@ -40,7 +40,7 @@ public interface TokenBalanceRepository extends CrudRepository<TokenBalance, Tok
      * found at a timestamp less than the given block timestamp. If no token_balance is found for the given token_id,
      * account_id, and consensus timestamp, a balance of 0 will be returned.
      *
-     * For more information please refer to `AccountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp`
+     * For more information please refer to `AccountBalanceService.findHistoricalAccountBalanceUpToTimestamp`
      *
      * @param tokenId         the ID of the token.
      * @param accountId       the ID of the account.
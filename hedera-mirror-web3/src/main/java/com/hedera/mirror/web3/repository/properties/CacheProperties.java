@@ -17,12 +17,26 @@ public class CacheProperties {
      */
     private static final String ENTITY_CACHE_CONFIG = "expireAfterWrite=1s,maximumSize=10000,recordStats";
 
+    /**
+     * Caches values read at the latest block across requests until the next block, such as hot contract slots
+     */
+    @NotBlank
+    private String blockState = "maximumSize=100000,recordStats";
+
+    private boolean blockStateEnabled = false;
+
     @NotBlank
     private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
 
     @NotBlank
     private String contractState = ENTITY_CACHE_CONFIG;
 
+    /**
+     * Caches the contracts with too many storage slots to prefetch, so they're not counted again on every request
+     */
+    @NotBlank
+    private String contractStatePrefetch = "expireAfterWrite=10m,maximumSize=10000,recordStats";
+
     @NotBlank
     private String fee = "expireAfterWrite=10m,maximumSize=20,recordStats";
 
@@ -0,0 +1,26 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.web3.service;
+
+import com.hedera.mirror.web3.repository.AccountBalanceRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceServiceImpl implements AccountBalanceService {
+
+    private final AccountBalanceRepository accountBalanceRepository;
+
+    // The snapshot timestamp lookup goes through the repository proxy, so its cache is applied
+    @Override
+    public Optional<Long> findHistoricalAccountBalanceUpToTimestamp(long accountId, long blockTimestamp) {
+        return accountBalanceRepository
+                .findBalanceSnapshotTimestamp(blockTimestamp)
+                .map(snapshotTimestamp -> accountBalanceRepository.findHistoricalAccountBalanceFromSnapshot(
+                        accountId, snapshotTimestamp, blockTimestamp))
+                .orElseGet(() ->
+                        accountBalanceRepository.findHistoricalAccountBalanceFromTransfers(accountId, blockTimestamp));
+    }
+}
@@ -8,6 +8,7 @@ import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallTyp
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.evm.store.Store;
@@ -21,6 +22,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import jakarta.validation.Valid;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.CustomLog;
 import org.springframework.validation.annotation.Validated;
 
@@ -55,9 +57,26 @@ public class ContractDebugService extends ContractCallService {
 
     public OpcodesProcessingResult processOpcodeCall(
             final @Valid ContractDebugParameters params, final OpcodeTracerOptions opcodeTracerOptions) {
+        return processOpcodeCall(params, opcodeTracerOptions, null);
+    }
+
+    /**
+     * Re-executes the transaction like {@link #processOpcodeCall(ContractDebugParameters, OpcodeTracerOptions)}, but
+     * passes each opcode to the consumer as soon as it's traced instead of keeping them all in memory.
+     *
+     * @param params              the debug parameters
+     * @param opcodeTracerOptions the tracer options
+     * @param opcodeConsumer      receives the traced opcodes, or null to collect them in the result
+     * @return the result of the execution, with no opcodes if a consumer was given
+     */
+    public OpcodesProcessingResult processOpcodeCall(
+            final @Valid ContractDebugParameters params,
+            final OpcodeTracerOptions opcodeTracerOptions,
+            final Consumer<Opcode> opcodeConsumer) {
         return ContractCallContext.run(ctx -> {
             ctx.setTimestamp(Optional.of(params.getConsensusTimestamp() - 1));
             ctx.setOpcodeTracerOptions(opcodeTracerOptions);
+            ctx.setOpcodeConsumer(opcodeConsumer);
             ctx.setContractActions(contractActionRepository.findFailedSystemActionsByConsensusTimestamp(
                     params.getConsensusTimestamp()));
             final var ethCallTxnResult = callContract(params, ctx);
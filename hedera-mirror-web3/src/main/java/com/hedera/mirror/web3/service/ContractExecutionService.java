@@ -97,7 +97,14 @@ public class ContractExecutionService extends ContractCallService {
 
         final var estimatedGas = binaryGasEstimator.search(
                 (totalGas, iterations) -> updateGasUsedMetric(CallType.ETH_ESTIMATE_GAS, totalGas, iterations),
-                gas -> doProcessCall(params, gas, false),
+                gas -> {
+                    final var ctx = ContractCallContext.get();
+                    if (ctx != context && !mirrorNodeEvmProperties.isModularizedServices()) {
+                        // A context forked for a concurrent estimation needs its own stack frames
+                        ctx.initializeStackFrames(store.getStackedStateFrames());
+                    }
+                    return doProcessCall(params, gas, false);
+                },
                 gasUsedByInitialCall,
                 params.getGas());
 
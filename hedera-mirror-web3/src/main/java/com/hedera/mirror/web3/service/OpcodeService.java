@@ -2,9 +2,11 @@
 
 package com.hedera.mirror.web3.service;
 
+import com.hedera.mirror.rest.model.Opcode;
 import com.hedera.mirror.rest.model.OpcodesResponse;
 import com.hedera.mirror.web3.common.TransactionIdOrHashParameter;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import java.util.function.Consumer;
 import org.springframework.lang.NonNull;
 
 public interface OpcodeService {
@@ -16,4 +18,15 @@ public interface OpcodeService {
      */
     OpcodesResponse processOpcodeCall(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash, @NonNull OpcodeTracerOptions options);
+
+    /**
+     * @param transactionIdOrHash the {@link TransactionIdOrHashParameter}
+     * @param options the {@link OpcodeTracerOptions}
+     * @param opcodeConsumer receives each {@link Opcode} as soon as it's traced
+     * @return the {@link OpcodesResponse} holding the result of the opcode call without the opcodes
+     */
+    OpcodesResponse processOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHash,
+            @NonNull OpcodeTracerOptions options,
+            @NonNull Consumer<Opcode> opcodeConsumer);
 }
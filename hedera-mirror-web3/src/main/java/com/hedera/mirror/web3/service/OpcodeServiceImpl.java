@@ -33,6 +33,7 @@ import com.hedera.mirror.web3.viewmodel.BlockType;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import java.math.BigInteger;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -63,6 +64,17 @@ public class OpcodeServiceImpl implements OpcodeService {
         return buildOpcodesResponse(result);
     }
 
+    @Override
+    public OpcodesResponse processOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHashParameter,
+            @NonNull OpcodeTracerOptions options,
+            @NonNull Consumer<Opcode> opcodeConsumer) {
+        final ContractDebugParameters params = buildCallServiceParameters(transactionIdOrHashParameter);
+        final OpcodesProcessingResult result = contractDebugService.processOpcodeCall(
+                params, options, opcode -> opcodeConsumer.accept(toOpcode(opcode)));
+        return buildOpcodesResponse(result);
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash) {
         final Long consensusTimestamp;
@@ -116,31 +128,29 @@ public class OpcodeServiceImpl implements OpcodeService {
                         .orElse(null))
                 .failed(!result.transactionProcessingResult().isSuccessful())
                 .gas(result.transactionProcessingResult().getGasUsed())
-                .opcodes(result.opcodes().stream()
-                        .map(opcode -> new Opcode()
-                                .depth(opcode.depth())
-                                .gas(opcode.gas())
-                                .gasCost(opcode.gasCost())
-                                .op(opcode.op())
-                                .pc(opcode.pc())
-                                .reason(opcode.reason())
-                                .stack(opcode.stack().stream()
-                                        .map(Bytes::toHexString)
-                                        .toList())
-                                .memory(opcode.memory().stream()
-                                        .map(Bytes::toHexString)
-                                        .toList())
-                                .storage(opcode.storage().entrySet().stream()
-                                        .collect(Collectors.toMap(
-                                                entry -> entry.getKey().toHexString(),
-                                                entry -> entry.getValue().toHexString()))))
-                        .toList())
+                .opcodes(result.opcodes().stream().map(this::toOpcode).toList())
                 .returnValue(
                         Optional.ofNullable(result.transactionProcessingResult().getOutput())
                                 .map(Bytes::toHexString)
                                 .orElse(Bytes.EMPTY.toHexString()));
     }
 
+    private Opcode toOpcode(com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode opcode) {
+        return new Opcode()
+                .depth(opcode.depth())
+                .gas(opcode.gas())
+                .gasCost(opcode.gasCost())
+                .op(opcode.op())
+                .pc(opcode.pc())
+                .reason(opcode.reason())
+                .stack(opcode.stack().stream().map(Bytes::toHexString).toList())
+                .memory(opcode.memory().stream().map(Bytes::toHexString).toList())
+                .storage(opcode.storage().entrySet().stream()
+                        .collect(Collectors.toMap(
+                                entry -> entry.getKey().toHexString(),
+                                entry -> entry.getValue().toHexString())));
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             Long consensusTimestamp, Optional<Transaction> transaction, Optional<EthereumTransaction> ethTransaction) {
         final ContractResult contractResult = contractResultRepository
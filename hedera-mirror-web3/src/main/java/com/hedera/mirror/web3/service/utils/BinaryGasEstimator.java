@@ -6,6 +6,13 @@ import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
 import lombok.CustomLog;
@@ -16,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 @Named
 public class BinaryGasEstimator {
     private final MirrorNodeEvmProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
 
     public long search(
             final ObjIntConsumer<Long> metricUpdater,
@@ -34,6 +42,10 @@ public class BinaryGasEstimator {
         // threshold. Adjust via estimateGasIterationThresholdPercent value.
         final long estimateIterationThreshold = (long) (lo * properties.getEstimateGasIterationThresholdPercent());
 
+        if (properties.getEstimateGasParallelism() > 1) {
+            return parallelSearch(metricUpdater, call, lo, hi, estimateIterationThreshold);
+        }
+
         ContractCallContext contractCallContext = ContractCallContext.get();
         while (lo + 1 < hi && iterationsMade < properties.getMaxGasEstimateRetriesCount()) {
             contractCallContext.reset();
@@ -66,6 +78,107 @@ public class BinaryGasEstimator {
         return hi;
     }
 
+    /**
+     * Executes several gas limits of the interval concurrently in each round, narrowing the interval to the two adjacent
+     * gas limits between which the call starts to succeed. Every execution runs on its own thread in a context forked
+     * from the current one, so the call function must be able to execute in a new context. The first round also tries
+     * the gas used plus a 63rd of it, since the 63/64 rule for nested calls means a call that used its gas limit
+     * successfully usually needs only that much more, which finishes the search in a single round.
+     */
+    private long parallelSearch(
+            final ObjIntConsumer<Long> metricUpdater,
+            final LongFunction<HederaEvmTransactionProcessingResult> call,
+            long lo,
+            long hi,
+            final long estimateIterationThreshold) {
+        final var contractCallContext = ContractCallContext.get();
+        final int parallelism = properties.getEstimateGasParallelism();
+        long predicted = lo + Math.max(1, lo / 63);
+        int iterationsMade = 0;
+        int rounds = 0;
+        long totalGasUsed = 0;
+
+        while (lo + 1 < hi && rounds < properties.getMaxGasEstimateRetriesCount()) {
+            final var candidates = candidates(lo, hi, parallelism, predicted);
+            final List<Future<HederaEvmTransactionProcessingResult>> results = new ArrayList<>(candidates.size());
+            for (long gas : candidates) {
+                results.add(executor.submit(() -> contractCallContext.fork(ctx -> execute(gas, call))));
+            }
+
+            rounds++;
+            predicted = 0;
+            long nextLo = lo;
+            long nextHi = hi;
+
+            for (int i = 0; i < candidates.size(); i++) {
+                final long gas = candidates.get(i);
+                final var transactionResult = await(results.get(i));
+                iterationsMade++;
+
+                boolean err = transactionResult == null
+                        || !transactionResult.isSuccessful()
+                        || transactionResult.getGasUsed() <= 0;
+                totalGasUsed += err ? gas : transactionResult.getGasUsed();
+
+                if (nextHi == hi) {
+                    if (err) {
+                        nextLo = gas;
+                    } else {
+                        nextHi = gas;
+                    }
+                }
+            }
+
+            lo = nextLo;
+            hi = nextHi;
+            if (hi - lo < estimateIterationThreshold) {
+                break;
+            }
+        }
+
+        metricUpdater.accept(totalGasUsed, iterationsMade);
+        return hi;
+    }
+
+    private List<Long> candidates(long lo, long hi, int parallelism, long predicted) {
+        final var candidates = new TreeSet<Long>();
+        long start = lo;
+
+        if (predicted > lo && predicted < hi) {
+            candidates.add(predicted);
+            start = predicted;
+        }
+
+        int count = parallelism - candidates.size();
+        for (int i = 1; i <= count; i++) {
+            long gas = start + (hi - start) * i / (count + 1);
+            if (gas > lo && gas < hi) {
+                candidates.add(gas);
+            }
+        }
+
+        return new ArrayList<>(candidates);
+    }
+
+    private HederaEvmTransactionProcessingResult execute(
+            long gas, LongFunction<HederaEvmTransactionProcessingResult> call) {
+        return properties.isModularizedServices() ? safeCall(gas, call) : call.apply(gas);
+    }
+
+    private HederaEvmTransactionProcessingResult await(Future<HederaEvmTransactionProcessingResult> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while estimating gas", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
     // This method is needed because within the modularized services if the contract call fails an exception is thrown
     // instead of transaction result with 'failed' status which will result in a failing test. This way we handle the
     // exception and return estimated gas
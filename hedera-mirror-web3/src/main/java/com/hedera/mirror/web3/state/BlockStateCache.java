@@ -0,0 +1,78 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.web3.state;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import jakarta.inject.Named;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A cache of state read at the latest block that is shared across requests. Unlike the per request read cache in the
+ * {@link ContractCallContext}, concurrent calls to the same contracts reuse the values already read by other calls in
+ * the same block. The cache is keyed by the index of the latest record file and is replaced as soon as a request sees a
+ * newer record file. Historical requests always bypass it.
+ */
+@Named
+@RequiredArgsConstructor
+public class BlockStateCache {
+
+    private final CacheProperties cacheProperties;
+    private final AtomicReference<BlockState> current = new AtomicReference<>();
+
+    /**
+     * Gets the value for the key, loading it with the loader if it's not cached for the current request's block.
+     *
+     * @param stateKey the state key
+     * @param key      the key within the state
+     * @param loader   loads the value from the data source
+     * @return the value, possibly null
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V get(String stateKey, Object key, Supplier<V> loader) {
+        var cache = getCache();
+        if (cache == null) {
+            return loader.get();
+        }
+
+        return (V) cache.get(new StateKey(stateKey, key), k -> Optional.<Object>ofNullable(loader.get()))
+                .orElse(null);
+    }
+
+    private Cache<StateKey, Optional<Object>> getCache() {
+        var context = ContractCallContext.get();
+        var recordFile = context.getRecordFile();
+        if (!cacheProperties.isBlockStateEnabled()
+                || recordFile == null
+                || recordFile.getIndex() == null
+                || context.useHistorical()) {
+            return null;
+        }
+
+        long index = recordFile.getIndex();
+
+        while (true) {
+            var blockState = current.get();
+            if (blockState != null && blockState.index() >= index) {
+                // A request that started before the latest block was seen can't use its state
+                return blockState.index() == index ? blockState.cache() : null;
+            }
+
+            Cache<StateKey, Optional<Object>> cache =
+                    Caffeine.from(cacheProperties.getBlockState()).build();
+            var next = new BlockState(index, cache);
+            if (current.compareAndSet(blockState, next)) {
+                return cache;
+            }
+        }
+    }
+
+    private record BlockState(long index, Cache<StateKey, Optional<Object>> cache) {}
+
+    private record StateKey(String stateKey, Object key) {}
+}
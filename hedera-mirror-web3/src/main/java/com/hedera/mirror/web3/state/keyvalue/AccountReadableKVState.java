@@ -19,13 +19,13 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
 import com.hedera.mirror.web3.common.ContractCallContext;
-import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
+import com.hedera.mirror.web3.service.AccountBalanceService;
 import com.hedera.mirror.web3.state.CommonEntityAccessor;
 import com.hedera.mirror.web3.utils.Suppliers;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -47,7 +47,7 @@ import java.util.function.Supplier;
 public class AccountReadableKVState extends AbstractReadableKVState<AccountID, Account> {
 
     public static final String KEY = "ACCOUNTS";
-    private final AccountBalanceRepository accountBalanceRepository;
+    private final AccountBalanceService accountBalanceService;
     private final CommonEntityAccessor commonEntityAccessor;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
@@ -62,9 +62,9 @@ public class AccountReadableKVState extends AbstractReadableKVState<AccountID, A
             TokenAllowanceRepository tokenAllowanceRepository,
             CryptoAllowanceRepository cryptoAllowanceRepository,
             TokenAccountRepository tokenAccountRepository,
-            AccountBalanceRepository accountBalanceRepository) {
+            AccountBalanceService accountBalanceService) {
         super(KEY);
-        this.accountBalanceRepository = accountBalanceRepository;
+        this.accountBalanceService = accountBalanceService;
         this.commonEntityAccessor = commonEntityAccessor;
         this.cryptoAllowanceRepository = cryptoAllowanceRepository;
         this.nftAllowanceRepository = nftAllowanceRepository;
@@ -136,7 +136,7 @@ public class AccountReadableKVState extends AbstractReadableKVState<AccountID, A
                 .map(t -> {
                     Long createdTimestamp = entity.getCreatedTimestamp();
                     if (createdTimestamp == null || t >= createdTimestamp) {
-                        return accountBalanceRepository
+                        return accountBalanceService
                                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), t)
                                 .orElse(0L);
                     } else {
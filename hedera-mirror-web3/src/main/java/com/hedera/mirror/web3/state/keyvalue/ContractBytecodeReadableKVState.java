@@ -11,6 +11,7 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.web3.repository.ContractRepository;
+import com.hedera.mirror.web3.state.BlockStateCache;
 import com.hedera.mirror.web3.state.CommonEntityAccessor;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import jakarta.annotation.Nonnull;
@@ -21,19 +22,27 @@ import java.util.Optional;
 public class ContractBytecodeReadableKVState extends AbstractReadableKVState<ContractID, Bytecode> {
 
     public static final String KEY = "BYTECODE";
+    private final BlockStateCache blockStateCache;
     private final ContractRepository contractRepository;
 
     private final CommonEntityAccessor commonEntityAccessor;
 
     protected ContractBytecodeReadableKVState(
-            final ContractRepository contractRepository, CommonEntityAccessor commonEntityAccessor) {
+            final BlockStateCache blockStateCache,
+            final ContractRepository contractRepository,
+            CommonEntityAccessor commonEntityAccessor) {
         super(KEY);
+        this.blockStateCache = blockStateCache;
         this.contractRepository = contractRepository;
         this.commonEntityAccessor = commonEntityAccessor;
     }
 
     @Override
     protected Bytecode readFromDataSource(@Nonnull ContractID contractID) {
+        return blockStateCache.get(KEY, contractID, () -> readBytecode(contractID));
+    }
+
+    private Bytecode readBytecode(ContractID contractID) {
         final var entityId = toEntityId(contractID);
 
         return contractRepository
@@ -3,26 +3,47 @@
 package com.hedera.mirror.web3.state.keyvalue;
 
 import static com.hedera.mirror.common.util.DomainUtils.leftPadBytes;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_STORAGE_PREFETCH;
 
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.state.BlockStateCache;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.services.utils.EntityIdUtils;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 
 @Named
 public class ContractStorageReadableKVState extends AbstractReadableKVState<SlotKey, SlotValue> {
 
     public static final String KEY = "STORAGE";
+    static final String PREFETCH_KEY = "STORAGE_PREFETCH";
+    private final BlockStateCache blockStateCache;
     private final ContractStateRepository contractStateRepository;
+    private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
+    private final Cache tooManySlots;
 
-    protected ContractStorageReadableKVState(final ContractStateRepository contractStateRepository) {
+    protected ContractStorageReadableKVState(
+            final BlockStateCache blockStateCache,
+            final ContractStateRepository contractStateRepository,
+            final MirrorNodeEvmProperties mirrorNodeEvmProperties,
+            @Qualifier(CACHE_MANAGER_CONTRACT_STATE) final CacheManager cacheManager) {
         super(KEY);
+        this.blockStateCache = blockStateCache;
         this.contractStateRepository = contractStateRepository;
+        this.mirrorNodeEvmProperties = mirrorNodeEvmProperties;
+        this.tooManySlots = cacheManager.getCache(CACHE_NAME_STORAGE_PREFETCH);
     }
 
     @Override
@@ -31,15 +52,69 @@ public class ContractStorageReadableKVState extends AbstractReadableKVState<Slot
             return null;
         }
 
-        final var timestamp = ContractCallContext.get().getTimestamp();
+        return blockStateCache.get(KEY, slotKey, () -> readSlot(slotKey));
+    }
+
+    private SlotValue readSlot(SlotKey slotKey) {
+        final var context = ContractCallContext.get();
+        final var timestamp = context.getTimestamp();
         final var contractID = slotKey.contractID();
         final var entityId = EntityIdUtils.entityIdFromContractId(contractID).getId();
         final var keyBytes = slotKey.key().toByteArray();
+        final var prefetched = prefetch(context, entityId, timestamp);
+
+        if (prefetched.isPresent()) {
+            var value = prefetched.get().get(Bytes.wrap(leftPadBytes(keyBytes, Bytes32.SIZE)));
+            // The history doesn't go back further than the upgrade that added it, so a historical miss is confirmed
+            // against the state changes
+            if (value != null || timestamp.isEmpty()) {
+                return value != null ? toSlotValue(value) : null;
+            }
+        }
+
         return timestamp
                 .map(t -> contractStateRepository.findStorageByBlockTimestamp(entityId, keyBytes, t))
-                .orElse(contractStateRepository.findStorage(entityId, keyBytes))
-                .map(byteArr ->
-                        new SlotValue(Bytes.wrap(leftPadBytes(byteArr, Bytes32.SIZE)), Bytes.EMPTY, Bytes.EMPTY))
+                .orElseGet(() -> contractStateRepository.findStorage(entityId, keyBytes))
+                .map(ContractStorageReadableKVState::toSlotValue)
                 .orElse(null);
     }
+
+    /**
+     * Loads all the storage slots of a contract in one query on the first access to it in the current call, so the
+     * following slot reads don't each need a round trip. Contracts with more slots than the configured maximum are
+     * read one slot at a time, and are remembered across calls so their slots aren't counted again on every call.
+     */
+    @SuppressWarnings("unchecked")
+    private Optional<Map<Bytes, byte[]>> prefetch(
+            ContractCallContext context, long contractId, Optional<Long> timestamp) {
+        int maxSlots = mirrorNodeEvmProperties.getStoragePrefetchMaxSlots();
+        if (maxSlots <= 0) {
+            return Optional.empty();
+        }
+
+        var contracts = context.getReadCacheState(PREFETCH_KEY);
+        return (Optional<Map<Bytes, byte[]>>) contracts.computeIfAbsent(contractId, id -> {
+            // A contract that exceeded a maximum at least as large also exceeds this one
+            var exceeded = tooManySlots.get(contractId, Integer.class);
+            if (exceeded != null && exceeded >= maxSlots) {
+                return Optional.empty();
+            }
+
+            var slots = timestamp
+                    .map(t -> contractStateRepository.findStorageSlotsByBlockTimestamp(contractId, t, maxSlots + 1))
+                    .orElseGet(() -> contractStateRepository.findStorageSlots(contractId, maxSlots + 1));
+            if (slots.size() > maxSlots) {
+                tooManySlots.put(contractId, maxSlots);
+                return Optional.empty();
+            }
+
+            var values = new HashMap<Bytes, byte[]>(slots.size());
+            slots.forEach(s -> values.put(Bytes.wrap(leftPadBytes(s.getSlot(), Bytes32.SIZE)), s.getValue()));
+            return Optional.of(values);
+        });
+    }
+
+    private static SlotValue toSlotValue(byte[] value) {
+        return new SlotValue(Bytes.wrap(leftPadBytes(value, Bytes32.SIZE)), Bytes.EMPTY, Bytes.EMPTY);
+    }
 }
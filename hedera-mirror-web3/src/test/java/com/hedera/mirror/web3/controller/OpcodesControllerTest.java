@@ -7,6 +7,7 @@ import static com.hedera.mirror.common.util.DomainUtils.convertToNanosMax;
 import static com.hedera.mirror.web3.utils.TransactionProviderEnum.entityAddress;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_EXECUTION_EXCEPTION;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -35,6 +36,7 @@ import com.hedera.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.properties.OpcodeTracerProperties;
 import com.hedera.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
 import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
 import com.hedera.mirror.web3.repository.ContractResultRepository;
@@ -66,6 +68,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -112,6 +115,9 @@ class OpcodesControllerTest {
     @Resource
     private ObjectMapper objectMapper;
 
+    @Resource
+    private OpcodeTracerProperties opcodeTracerProperties;
+
     @MockitoBean
     private ContractDebugService contractDebugService;
 
@@ -373,6 +379,90 @@ class OpcodesControllerTest {
         assertThat(callServiceParametersCaptor.getValue()).isEqualTo(expectedCallServiceParameters.get());
     }
 
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streaming(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+        final var options = new OpcodeTracerOptions(true, true, true);
+        when(contractDebugService.processOpcodeCall(
+                        callServiceParametersCaptor.capture(), tracerOptionsCaptor.capture(), any()))
+                .thenAnswer(context -> {
+                    final ContractDebugParameters params = context.getArgument(0);
+                    final Consumer<Opcode> opcodeConsumer = context.getArgument(2);
+                    final var result = Builder.successfulOpcodesProcessingResult(params, options);
+                    opcodesResultCaptor.set(result);
+                    result.opcodes().forEach(opcodeConsumer);
+                    return new OpcodesProcessingResult(result.transactionProcessingResult(), List.of());
+                });
+        opcodeTracerProperties.setStreaming(true);
+
+        try {
+            final var response = mockMvc.perform(opcodesRequest(transactionIdOrHash, options))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            final var expected = Builder.opcodesResponse(opcodesResultCaptor.get(), entityDatabaseAccessor);
+            assertThat(objectMapper.readTree(response)).isEqualTo(objectMapper.valueToTree(expected));
+            assertThat(tracerOptionsCaptor.getValue()).isEqualTo(options);
+            assertThat(callServiceParametersCaptor.getValue()).isEqualTo(expectedCallServiceParameters.get());
+        } finally {
+            opcodeTracerProperties.setStreaming(false);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamingThrowsMidTrace(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+        final var options = new OpcodeTracerOptions(true, true, true);
+        final var detailedErrorMessage = "Custom revert message";
+        final var hexDataErrorMessage =
+                "0x08c379a000000000000000000000000000000000000000000000000000000000000000200000000000000000000000000000000000000000000000000000000000000015437573746f6d20726576657274206d6573736167650000000000000000000000";
+        when(contractDebugService.processOpcodeCall(
+                        callServiceParametersCaptor.capture(), tracerOptionsCaptor.capture(), any()))
+                .thenAnswer(context -> {
+                    final ContractDebugParameters params = context.getArgument(0);
+                    final Consumer<Opcode> opcodeConsumer = context.getArgument(2);
+                    final var result = Builder.successfulOpcodesProcessingResult(params, options);
+                    // Write more than the generator buffers before failing
+                    for (int i = 0; i < 100; i++) {
+                        result.opcodes().forEach(opcodeConsumer);
+                    }
+                    throw new MirrorEvmTransactionException(
+                            CONTRACT_EXECUTION_EXCEPTION, detailedErrorMessage, hexDataErrorMessage);
+                });
+        opcodeTracerProperties.setStreaming(true);
+
+        try {
+            mockMvc.perform(opcodesRequest(transactionIdOrHash, options))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(responseBody(new GenericErrorResponse(
+                            CONTRACT_EXECUTION_EXCEPTION.name(), detailedErrorMessage, hexDataErrorMessage)));
+        } finally {
+            opcodeTracerProperties.setStreaming(false);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamingWithContractResultNotFound(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+        final var id = providerEnum.getContractResult().get().getConsensusTimestamp();
+        when(contractResultRepository.findById(anyLong())).thenReturn(Optional.empty());
+        opcodeTracerProperties.setStreaming(true);
+
+        try {
+            mockMvc.perform(opcodesRequest(transactionIdOrHash))
+                    .andExpect(status().isNotFound())
+                    .andExpect(responseBody(
+                            new GenericErrorResponse(NOT_FOUND.getReasonPhrase(), "Contract result not found: " + id)));
+        } finally {
+            opcodeTracerProperties.setStreaming(false);
+        }
+    }
+
     @ParameterizedTest
     @EnumSource(TransactionProviderEnum.class)
     void callWithContractResultNotFoundExceptionTest(final TransactionProviderEnum providerEnum) throws Exception {
@@ -703,6 +793,11 @@ class OpcodesControllerTest {
             return new MirrorNodeEvmProperties();
         }
 
+        @Bean
+        OpcodeTracerProperties opcodeTracerProperties() {
+            return new OpcodeTracerProperties();
+        }
+
         @Bean
         MeterRegistry meterRegistry() {
             return new SimpleMeterRegistry();
@@ -53,6 +53,7 @@ import com.swirlds.state.State;
 import com.swirlds.state.spi.WritableKVState;
 import java.nio.ByteBuffer;
 import java.security.SecureRandom;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
@@ -117,6 +118,12 @@ class OpcodeTracerTest {
             return new OperationResult(GAS_COST, null);
         }
     };
+    private static final Operation MSTORE_OPERATION = new AbstractOperation(0x52, "MSTORE", 2, 0, null) {
+        @Override
+        public OperationResult execute(final MessageFrame frame, final EVM evm) {
+            return new OperationResult(GAS_COST, null);
+        }
+    };
     private static MockedStatic<ContractCallContext> contextMockedStatic;
 
     @Spy
@@ -456,6 +463,54 @@ class OpcodeTracerTest {
         assertThat(opcode.memory()).containsExactly(wordsInMemory);
     }
 
+    @Test
+    @DisplayName("given memory is enabled in tracer options, should reuse memory while it's unchanged")
+    void shouldReuseUnchangedMemory() {
+        tracerOptions = tracerOptions.toBuilder().memory(true).build();
+        frame = setupInitialFrame(tracerOptions);
+
+        final var operationResult = OPERATION.execute(frame, null);
+        tracer.tracePostExecution(frame, operationResult);
+        frame.writeMemory(96, 32, Bytes.fromHexString("0x04", 32));
+        tracer.tracePostExecution(frame, operationResult);
+        tracer.tracePostExecution(frame, operationResult);
+
+        final var opcodes = contractCallContext.getOpcodes();
+        assertThat(opcodes).hasSize(3);
+        assertThat(opcodes.get(1).memory()).hasSize(4).startsWith(wordsInMemory);
+        assertThat(opcodes.get(2).memory()).isSameAs(opcodes.get(1).memory());
+    }
+
+    @Test
+    @DisplayName("given memory is enabled in tracer options, should read memory again after it's written")
+    void shouldRecordMemoryAfterMemoryWrite() {
+        tracerOptions = tracerOptions.toBuilder().memory(true).build();
+        frame = setupInitialFrame(tracerOptions);
+        final var word = Bytes.fromHexString("0x05", 32);
+
+        tracer.tracePostExecution(frame, OPERATION.execute(frame, null));
+        frame.writeMemory(0, 32, word);
+        frame.setCurrentOperation(MSTORE_OPERATION);
+        tracer.tracePostExecution(frame, MSTORE_OPERATION.execute(frame, null));
+
+        final var opcodes = contractCallContext.getOpcodes();
+        assertThat(opcodes.get(0).memory()).containsExactly(wordsInMemory);
+        assertThat(opcodes.get(1).memory()).containsExactly(word, wordsInMemory[1], wordsInMemory[2]);
+    }
+
+    @Test
+    @DisplayName("given an opcode consumer, should pass opcodes to it instead of collecting them")
+    void shouldPassOpcodesToConsumer() {
+        final var consumed = new ArrayList<Opcode>();
+        frame = setupInitialFrame(tracerOptions);
+        contractCallContext.setOpcodeConsumer(consumed::add);
+
+        tracer.tracePostExecution(frame, OPERATION.execute(frame, null));
+
+        assertThat(consumed).hasSize(1).first().returns("MUL", Opcode::op);
+        assertThat(contractCallContext.getOpcodes()).isEmpty();
+    }
+
     @Test
     @DisplayName("given memory is disabled in tracer options, should not record memory")
     void shouldNotRecordMemoryWhenDisabled() {
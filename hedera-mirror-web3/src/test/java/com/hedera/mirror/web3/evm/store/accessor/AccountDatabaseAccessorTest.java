@@ -18,13 +18,13 @@ import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
 import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
-import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
+import com.hedera.mirror.web3.service.AccountBalanceService;
 import com.hedera.services.store.models.Account;
 import com.hedera.services.store.models.FcTokenAllowanceId;
 import com.hedera.services.store.models.Id;
@@ -103,7 +103,7 @@ class AccountDatabaseAccessorTest {
     private CryptoAllowanceRepository cryptoAllowanceRepository;
 
     @Mock
-    private AccountBalanceRepository accountBalanceRepository;
+    private AccountBalanceService accountBalanceService;
 
     @Mock
     private TokenAccountRepository tokenAccountRepository;
@@ -213,16 +213,16 @@ class AccountDatabaseAccessorTest {
     void accountBalanceMatchesValueFromRepositoryHistorical() {
         when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
         long balance = 20;
-        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
+        when(accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
                 .thenReturn(Optional.of(balance));
 
-        verify(accountBalanceRepository, never())
+        verify(accountBalanceService, never())
                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
 
         assertThat(accountAccessor.get(ADDRESS, timestamp))
                 .hasValueSatisfying(account -> assertThat(account).returns(balance, Account::getBalance));
 
-        verify(accountBalanceRepository).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
+        verify(accountBalanceService).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
     }
 
     @Test
@@ -240,16 +240,16 @@ class AccountDatabaseAccessorTest {
         entity.setCreatedTimestamp(timestamp.get() - 1);
         when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
         long balance = 0;
-        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
+        when(accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
                 .thenReturn(Optional.of(balance));
 
-        verify(accountBalanceRepository, never())
+        verify(accountBalanceService, never())
                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
 
         assertThat(accountAccessor.get(ADDRESS, timestamp))
                 .hasValueSatisfying(account -> assertThat(account).returns(balance, Account::getBalance));
 
-        verify(accountBalanceRepository).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
+        verify(accountBalanceService).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
     }
 
     @Test
@@ -257,16 +257,16 @@ class AccountDatabaseAccessorTest {
         when(entityDatabaseAccessor.get(ADDRESS, timestamp)).thenReturn(Optional.ofNullable(entity));
         long balance = 20;
         entity.setCreatedTimestamp(null);
-        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
+        when(accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
                 .thenReturn(Optional.of(balance));
 
-        verify(accountBalanceRepository, never())
+        verify(accountBalanceService, never())
                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
 
         assertThat(accountAccessor.get(ADDRESS, timestamp))
                 .hasValueSatisfying(account -> assertThat(account).returns(balance, Account::getBalance));
 
-        verify(accountBalanceRepository).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
+        verify(accountBalanceService).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
     }
 
     @Test
@@ -38,7 +38,6 @@ import com.hedera.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.accessor.TokenDatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.accessor.TokenRelationshipDatabaseAccessor;
 import com.hedera.mirror.web3.evm.store.accessor.UniqueTokenDatabaseAccessor;
-import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.CustomFeeRepository;
 import com.hedera.mirror.web3.repository.EntityRepository;
@@ -48,6 +47,7 @@ import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.TokenBalanceRepository;
 import com.hedera.mirror.web3.repository.TokenRepository;
+import com.hedera.mirror.web3.service.AccountBalanceService;
 import com.hedera.node.app.service.evm.store.contracts.precompile.codec.EvmNftInfo;
 import com.hedera.node.app.service.evm.store.contracts.precompile.codec.TokenKeyType;
 import com.hedera.services.txns.validation.OptionValidator;
@@ -103,7 +103,7 @@ class TokenAccessorImplTest {
     private NftAllowanceRepository nftAllowanceRepository;
 
     @Mock
-    private AccountBalanceRepository accountBalanceRepository;
+    private AccountBalanceService accountBalanceService;
 
     @Mock
     private MirrorEvmContractAliases mirrorEvmContractAliases;
@@ -136,7 +136,7 @@ class TokenAccessorImplTest {
                 tokenAllowanceRepository,
                 cryptoAllowanceRepository,
                 tokenAccountRepository,
-                accountBalanceRepository);
+                accountBalanceService);
         accessors = List.of(
                 entityAccessor,
                 customFeeAccessor,
@@ -4,6 +4,7 @@ package com.hedera.mirror.web3.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.contract.ContractStateChange;
 import com.hedera.mirror.web3.Web3IntegrationTest;
@@ -72,6 +73,58 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
                 .isEmpty();
     }
 
+    @Test
+    void findStorageByBlockTimestampFromContractState() {
+        var contractState = domainBuilder.contractState().persist();
+
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractState.getContractId(), contractState.getSlot(), contractState.getTimestampLower()))
+                .get()
+                .isEqualTo(contractState.getValue());
+    }
+
+    @Test
+    void findStorageByBlockTimestampFromHistory() {
+        var contractStateHistory = domainBuilder.contractStateHistory().persist();
+        var contractState = domainBuilder
+                .contractState()
+                .customize(c -> c.contractId(contractStateHistory.getContractId())
+                        .slot(contractStateHistory.getSlot())
+                        .timestampRange(Range.atLeast(contractStateHistory.getTimestampUpper())))
+                .persist();
+
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractState.getContractId(),
+                        contractState.getSlot(),
+                        contractStateHistory.getTimestampUpper() - 1))
+                .get()
+                .isEqualTo(contractStateHistory.getValue());
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractState.getContractId(),
+                        contractState.getSlot(),
+                        contractStateHistory.getTimestampUpper()))
+                .get()
+                .isEqualTo(contractState.getValue());
+    }
+
+    @Test
+    void findStorageByBlockTimestampBeforeHistory() {
+        // Values from before the history was kept are read from the state changes
+        var contractStateChange = domainBuilder.contractStateChange().persist();
+        var contractState = domainBuilder
+                .contractState()
+                .customize(c -> c.contractId(contractStateChange.getContractId())
+                        .slot(contractStateChange.getSlot()))
+                .persist();
+
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(
+                        contractState.getContractId(),
+                        contractStateChange.getSlot(),
+                        contractStateChange.getConsensusTimestamp()))
+                .get()
+                .isEqualTo(contractStateChange.getValueWritten());
+    }
+
     @Test
     void findStorageFailCall() {
         ContractState contractState = domainBuilder.contractState().persist();
@@ -86,4 +139,58 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
         assertThat(contractStateRepository.findStorage(contractState.getContractId(), new byte[20]))
                 .isEmpty();
     }
+
+    @Test
+    void findStorageSlots() {
+        var contractState = domainBuilder.contractState().persist();
+        var other = domainBuilder
+                .contractState()
+                .customize(cs -> cs.contractId(contractState.getContractId()))
+                .persist();
+        domainBuilder.contractState().persist();
+
+        assertThat(contractStateRepository.findStorageSlots(contractState.getContractId(), 3))
+                .extracting(ContractState::getValue)
+                .containsExactlyInAnyOrder(contractState.getValue(), other.getValue());
+        assertThat(contractStateRepository.findStorageSlots(contractState.getContractId(), 1))
+                .hasSize(1);
+    }
+
+    @Test
+    void findStorageSlotsByBlockTimestamp() {
+        var contractStateHistory = domainBuilder.contractStateHistory().persist();
+        long contractId = contractStateHistory.getContractId();
+        long upper = contractStateHistory.getTimestampUpper();
+        var contractState = domainBuilder
+                .contractState()
+                .customize(c -> c.contractId(contractId)
+                        .slot(contractStateHistory.getSlot())
+                        .timestampRange(Range.atLeast(upper)))
+                .persist();
+        var otherSlot = domainBuilder
+                .contractState()
+                .customize(c -> c.contractId(contractId).timestampRange(Range.atLeast(upper + 1)))
+                .persist();
+        domainBuilder.contractState().persist();
+        // Not in the history
+        domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).consensusTimestamp(upper - 1))
+                .persist();
+
+        assertThat(contractStateRepository.findStorageSlotsByBlockTimestamp(
+                        contractId, contractStateHistory.getTimestampLower() - 1, 10))
+                .isEmpty();
+        assertThat(contractStateRepository.findStorageSlotsByBlockTimestamp(contractId, upper - 1, 10))
+                .extracting(ContractState::getValue)
+                .containsExactly(contractStateHistory.getValue());
+        assertThat(contractStateRepository.findStorageSlotsByBlockTimestamp(contractId, upper, 10))
+                .extracting(ContractState::getValue)
+                .containsExactly(contractState.getValue());
+        assertThat(contractStateRepository.findStorageSlotsByBlockTimestamp(contractId, upper + 1, 10))
+                .extracting(ContractState::getValue)
+                .containsExactlyInAnyOrder(contractState.getValue(), otherSlot.getValue());
+        assertThat(contractStateRepository.findStorageSlotsByBlockTimestamp(contractId, upper + 1, 1))
+                .hasSize(1);
+    }
 }
@@ -98,6 +98,56 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @DisplayName("parallelSearch")
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, requiredGas {2}, parallelism {3})")
+    @CsvSource({
+        "21000, 15_000_000, 21000, 4",
+        "21000, 15_000_000, 5_000_000, 4",
+        "35000, 100000, 60000, 2",
+        "1_000_000, 1_000_000_000, 1_000_001, 8",
+        "1_000_000, 1_000_000_000, 300_000_000, 8"
+    })
+    void parallelSearch(final long low, final long high, final long requiredGas, final int parallelism) {
+        final int defaultParallelism = properties.getEstimateGasParallelism();
+        properties.setEstimateGasParallelism(parallelism);
+
+        try {
+            final var result = binaryGasEstimator.search(
+                    (a, b) -> iterations.addAndGet(b),
+                    gas -> createTxnResult(Math.min(gas, requiredGas), gas >= requiredGas),
+                    low,
+                    high);
+
+            assertThat(result)
+                    .as("result must be enough for the call")
+                    .isBetween(requiredGas, high)
+                    .isLessThanOrEqualTo(
+                            requiredGas + (long) (low * properties.getEstimateGasIterationThresholdPercent()));
+        } finally {
+            properties.setEstimateGasParallelism(defaultParallelism);
+        }
+    }
+
+    @Test
+    void parallelSearchPredictsNestedCallGas() {
+        final int defaultParallelism = properties.getEstimateGasParallelism();
+        properties.setEstimateGasParallelism(4);
+        final long low = 100_000L;
+
+        try {
+            final var result = binaryGasEstimator.search(
+                    (a, b) -> iterations.addAndGet(b),
+                    gas -> createTxnResult(low, gas >= low + low / 64),
+                    low,
+                    15_000_000L);
+
+            assertThat(result).isEqualTo(low + low / 63);
+            assertThat(iterations.get()).as("single round").isEqualTo(4);
+        } finally {
+            properties.setEstimateGasParallelism(defaultParallelism);
+        }
+    }
+
     private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
@@ -0,0 +1,95 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package com.hedera.mirror.web3.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
+import com.hedera.mirror.web3.viewmodel.BlockType;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BlockStateCacheTest {
+
+    private static final String STATE_KEY = "STORAGE";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CacheProperties cacheProperties = new CacheProperties();
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final BlockStateCache blockStateCache = new BlockStateCache(cacheProperties);
+
+    private RecordFile recordFile;
+
+    @BeforeEach
+    void setup() {
+        cacheProperties.setBlockStateEnabled(true);
+        recordFile = domainBuilder.recordFile().get();
+    }
+
+    @Test
+    void disabled() {
+        cacheProperties.setBlockStateEnabled(false);
+        assertThat(get(recordFile, BlockType.LATEST, "key")).isEqualTo("value1");
+        assertThat(get(recordFile, BlockType.LATEST, "key")).isEqualTo("value2");
+    }
+
+    @Test
+    void sharedAcrossRequests() {
+        assertThat(get(recordFile, BlockType.LATEST, "key")).isEqualTo("value1");
+        assertThat(get(recordFile, BlockType.LATEST, "key")).isEqualTo("value1");
+        assertThat(get(recordFile, BlockType.LATEST, "other")).isEqualTo("value2");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void nullValue() {
+        var value = ContractCallContext.run(ctx -> {
+            ctx.setCallServiceParameters(parameters(BlockType.LATEST));
+            ctx.setRecordFile(recordFile);
+            blockStateCache.get(STATE_KEY, "key", () -> {
+                loads.incrementAndGet();
+                return null;
+            });
+            return blockStateCache.get(STATE_KEY, "key", () -> "value");
+        });
+
+        assertThat(value).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidatedByNewBlock() {
+        var next = domainBuilder.recordFile().get();
+        assertThat(get(recordFile, BlockType.LATEST, "key")).isEqualTo("value1");
+        assertThat(get(next, BlockType.LATEST, "key")).isEqualTo("value2");
+        assertThat(get(next, BlockType.LATEST, "key")).isEqualTo("value2");
+
+        // A request still on the previous block reads from the data source
+        assertThat(get(recordFile, BlockType.LATEST, "key")).isEqualTo("value3");
+        assertThat(get(next, BlockType.LATEST, "key")).isEqualTo("value2");
+    }
+
+    @Test
+    void historical() {
+        var block = BlockType.of(String.valueOf(recordFile.getIndex()));
+        assertThat(get(recordFile, block, "key")).isEqualTo("value1");
+        assertThat(get(recordFile, block, "key")).isEqualTo("value2");
+    }
+
+    private Object get(RecordFile recordFile, BlockType blockType, String key) {
+        return ContractCallContext.run(ctx -> {
+            ctx.setCallServiceParameters(parameters(blockType));
+            ctx.setRecordFile(recordFile);
+            return blockStateCache.get(STATE_KEY, key, () -> "value" + loads.incrementAndGet());
+        });
+    }
+
+    private ContractExecutionParameters parameters(BlockType blockType) {
+        return ContractExecutionParameters.builder().block(blockType).build();
+    }
+}
@@ -27,13 +27,13 @@ import com.hedera.mirror.common.domain.entity.NftAllowance;
 import com.hedera.mirror.common.domain.entity.TokenAllowance;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.store.accessor.AccountDatabaseAccessor;
-import com.hedera.mirror.web3.repository.AccountBalanceRepository;
 import com.hedera.mirror.web3.repository.CryptoAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftAllowanceRepository;
 import com.hedera.mirror.web3.repository.NftRepository;
 import com.hedera.mirror.web3.repository.TokenAccountRepository;
 import com.hedera.mirror.web3.repository.TokenAllowanceRepository;
 import com.hedera.mirror.web3.repository.projections.TokenAccountAssociationsCount;
+import com.hedera.mirror.web3.service.AccountBalanceService;
 import com.hedera.mirror.web3.state.CommonEntityAccessor;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -120,7 +120,7 @@ class AccountReadableKVStateTest {
     private CryptoAllowanceRepository cryptoAllowanceRepository;
 
     @Mock
-    private AccountBalanceRepository accountBalanceRepository;
+    private AccountBalanceService accountBalanceService;
 
     @Mock
     private TokenAccountRepository tokenAccountRepository;
@@ -308,16 +308,16 @@ class AccountReadableKVStateTest {
         when(contractCallContext.getTimestamp()).thenReturn(Optional.of(timestamp.get()));
         when(commonEntityAccessor.get(ACCOUNT_ID, timestamp)).thenReturn(Optional.ofNullable(entity));
         long balance = 20;
-        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
+        when(accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
                 .thenReturn(Optional.of(balance));
 
-        verify(accountBalanceRepository, never())
+        verify(accountBalanceService, never())
                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
 
         assertThat(accountReadableKVState.get(ACCOUNT_ID))
                 .satisfies(account -> assertThat(account).returns(balance, Account::tinybarBalance));
 
-        verify(accountBalanceRepository).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
+        verify(accountBalanceService).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
     }
 
     @Test
@@ -337,16 +337,16 @@ class AccountReadableKVStateTest {
         entity.setCreatedTimestamp(timestamp.get() - 1);
         when(commonEntityAccessor.get(ACCOUNT_ID, timestamp)).thenReturn(Optional.ofNullable(entity));
         long balance = 0;
-        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
+        when(accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
                 .thenReturn(Optional.of(balance));
 
-        verify(accountBalanceRepository, never())
+        verify(accountBalanceService, never())
                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
 
         assertThat(accountReadableKVState.get(ACCOUNT_ID))
                 .satisfies(account -> assertThat(account).returns(balance, Account::tinybarBalance));
 
-        verify(accountBalanceRepository).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
+        verify(accountBalanceService).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
     }
 
     @Test
@@ -355,16 +355,16 @@ class AccountReadableKVStateTest {
         when(commonEntityAccessor.get(ACCOUNT_ID, timestamp)).thenReturn(Optional.ofNullable(entity));
         long balance = 20;
         entity.setCreatedTimestamp(null);
-        when(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
+        when(accountBalanceService.findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get()))
                 .thenReturn(Optional.of(balance));
 
-        verify(accountBalanceRepository, never())
+        verify(accountBalanceService, never())
                 .findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
 
         assertThat(accountReadableKVState.get(ACCOUNT_ID))
                 .satisfies(account -> assertThat(account).returns(balance, Account::tinybarBalance));
 
-        verify(accountBalanceRepository).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
+        verify(accountBalanceService).findHistoricalAccountBalanceUpToTimestamp(entity.getId(), timestamp.get());
     }
 
     @Test
@@ -14,6 +14,8 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.repository.ContractRepository;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import com.hedera.mirror.web3.state.BlockStateCache;
 import com.hedera.mirror.web3.state.CommonEntityAccessor;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
@@ -65,6 +67,9 @@ class ContractBytecodeReadableKVStateTest {
     @Mock
     private ContractRepository contractRepository;
 
+    @Spy
+    private BlockStateCache blockStateCache = new BlockStateCache(new CacheProperties());
+
     @Mock
     private CommonEntityAccessor commonEntityAccessor;
 
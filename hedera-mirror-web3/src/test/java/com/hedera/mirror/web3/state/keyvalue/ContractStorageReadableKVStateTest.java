@@ -7,18 +7,26 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.ContractID;
 import com.hedera.hapi.node.base.ContractID.ContractOneOfType;
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import com.hedera.mirror.web3.state.BlockStateCache;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.AfterAll;
@@ -31,6 +39,8 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class ContractStorageReadableKVStateTest {
@@ -49,9 +59,18 @@ class ContractStorageReadableKVStateTest {
     @Mock
     private ContractStateRepository contractStateRepository;
 
+    @Spy
+    private BlockStateCache blockStateCache = new BlockStateCache(new CacheProperties());
+
+    @Spy
+    private MirrorNodeEvmProperties mirrorNodeEvmProperties = new MirrorNodeEvmProperties();
+
     @Spy
     private ContractCallContext contractCallContext;
 
+    @Spy
+    private CacheManager cacheManager = new CaffeineCacheManager();
+
     @BeforeAll
     static void initStaticMocks() {
         contextMockedStatic = mockStatic(ContractCallContext.class);
@@ -105,6 +124,101 @@ class ContractStorageReadableKVStateTest {
                 .satisfies(slotValue -> assertThat(slotValue).isNull());
     }
 
+    @Test
+    void prefetchLatestSlots() {
+        final var otherSlot = Bytes.wrap(leftPadBytes(new byte[] {1}, Bytes32.SIZE));
+        final var missingSlot = Bytes.wrap(leftPadBytes(new byte[] {2}, Bytes32.SIZE));
+        mirrorNodeEvmProperties.setStoragePrefetchMaxSlots(2);
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
+        when(contractStateRepository.findStorageSlots(ENTITY_ID.getId(), 3))
+                .thenReturn(List.of(contractState(BYTES), contractState(otherSlot)));
+
+        assertThat(contractStorageReadableKVState.get(SLOT_KEY)).returns(BYTES, SlotValue::value);
+        assertThat(contractStorageReadableKVState.get(new SlotKey(CONTRACT_ID, otherSlot)))
+                .returns(otherSlot, SlotValue::value);
+        assertThat(contractStorageReadableKVState.get(new SlotKey(CONTRACT_ID, missingSlot)))
+                .isNull();
+        verify(contractStateRepository).findStorageSlots(ENTITY_ID.getId(), 3);
+        verify(contractStateRepository, never()).findStorage(anyLong(), any());
+    }
+
+    @Test
+    void prefetchHistoricalSlots() {
+        final var blockTimestamp = 1234567L;
+        mirrorNodeEvmProperties.setStoragePrefetchMaxSlots(2);
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.of(blockTimestamp));
+        when(contractStateRepository.findStorageSlotsByBlockTimestamp(ENTITY_ID.getId(), blockTimestamp, 3))
+                .thenReturn(List.of(contractState(BYTES)));
+
+        assertThat(contractStorageReadableKVState.get(SLOT_KEY)).returns(BYTES, SlotValue::value);
+        verify(contractStateRepository, never()).findStorageByBlockTimestamp(anyLong(), any(), anyLong());
+        verify(contractStateRepository, never()).findStorage(anyLong(), any());
+    }
+
+    @Test
+    void prefetchHistoricalSlotsMissFallsBack() {
+        final var blockTimestamp = 1234567L;
+        final var otherSlot = Bytes.wrap(leftPadBytes(new byte[] {1}, Bytes32.SIZE));
+        mirrorNodeEvmProperties.setStoragePrefetchMaxSlots(2);
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.of(blockTimestamp));
+        when(contractStateRepository.findStorageSlotsByBlockTimestamp(ENTITY_ID.getId(), blockTimestamp, 3))
+                .thenReturn(List.of(contractState(BYTES)));
+        when(contractStateRepository.findStorageByBlockTimestamp(
+                        ENTITY_ID.getId(), otherSlot.toByteArray(), blockTimestamp))
+                .thenReturn(Optional.of(otherSlot.toByteArray()));
+
+        // A slot last written before the history was kept is read from the state changes
+        assertThat(contractStorageReadableKVState.get(new SlotKey(CONTRACT_ID, otherSlot)))
+                .returns(otherSlot, SlotValue::value);
+        assertThat(contractStorageReadableKVState.get(SLOT_KEY)).returns(BYTES, SlotValue::value);
+        verify(contractStateRepository).findStorageSlotsByBlockTimestamp(ENTITY_ID.getId(), blockTimestamp, 3);
+        verify(contractStateRepository).findStorageByBlockTimestamp(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    void prefetchTooManySlots() {
+        mirrorNodeEvmProperties.setStoragePrefetchMaxSlots(1);
+        final var otherSlot = Bytes.wrap(leftPadBytes(new byte[] {1}, Bytes32.SIZE));
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
+        when(contractStateRepository.findStorageSlots(ENTITY_ID.getId(), 2))
+                .thenReturn(List.of(contractState(BYTES), contractState(otherSlot)));
+        when(contractStateRepository.findStorage(anyLong(), any())).thenReturn(Optional.of(BYTES.toByteArray()));
+
+        assertThat(contractStorageReadableKVState.get(SLOT_KEY)).returns(BYTES, SlotValue::value);
+        assertThat(contractStorageReadableKVState.get(new SlotKey(CONTRACT_ID, otherSlot)))
+                .returns(BYTES, SlotValue::value);
+        verify(contractStateRepository).findStorageSlots(ENTITY_ID.getId(), 2);
+        verify(contractStateRepository, times(2)).findStorage(anyLong(), any());
+    }
+
+    @Test
+    void prefetchTooManySlotsAcrossCalls() {
+        mirrorNodeEvmProperties.setStoragePrefetchMaxSlots(1);
+        final var otherSlot = Bytes.wrap(leftPadBytes(new byte[] {1}, Bytes32.SIZE));
+        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
+        when(contractStateRepository.findStorageSlots(ENTITY_ID.getId(), 2))
+                .thenReturn(List.of(contractState(BYTES), contractState(otherSlot)));
+        when(contractStateRepository.findStorage(anyLong(), any())).thenReturn(Optional.of(BYTES.toByteArray()));
+
+        assertThat(contractStorageReadableKVState.get(SLOT_KEY)).returns(BYTES, SlotValue::value);
+        // The next call doesn't count the slots again
+        contractCallContext.getReadCacheState(ContractStorageReadableKVState.PREFETCH_KEY).clear();
+        assertThat(contractStorageReadableKVState.get(new SlotKey(CONTRACT_ID, otherSlot)))
+                .returns(BYTES, SlotValue::value);
+        verify(contractStateRepository).findStorageSlots(ENTITY_ID.getId(), 2);
+        verify(contractStateRepository, times(2)).findStorage(anyLong(), any());
+
+        // A larger maximum counts them again
+        mirrorNodeEvmProperties.setStoragePrefetchMaxSlots(2);
+        contractCallContext.getReadCacheState(ContractStorageReadableKVState.PREFETCH_KEY).clear();
+        when(contractStateRepository.findStorageSlots(ENTITY_ID.getId(), 3))
+                .thenReturn(List.of(contractState(BYTES), contractState(otherSlot)));
+        assertThat(contractStorageReadableKVState.get(new SlotKey(CONTRACT_ID, otherSlot)))
+                .returns(otherSlot, SlotValue::value);
+        verify(contractStateRepository).findStorageSlots(ENTITY_ID.getId(), 3);
+        verify(contractStateRepository, times(2)).findStorage(anyLong(), any());
+    }
+
     @Test
     void whenSlotKeyIsNullReturnNull() {
         assertThat(contractStorageReadableKVState.get(new SlotKey(null, BYTES)))
@@ -120,4 +234,12 @@ class ContractStorageReadableKVStateTest {
     void testSize() {
         assertThat(contractStorageReadableKVState.size()).isZero();
     }
+
+    private ContractState contractState(Bytes slot) {
+        var contractState = new ContractState();
+        contractState.setContractId(ENTITY_ID.getId());
+        contractState.setSlot(slot.toByteArray());
+        contractState.setValue(slot.toByteArray());
+        return contractState;
+    }
 }